@@ -18,7 +18,7 @@ import {
   useSubmitForApproval,
   useCandidates
 } from "@/utils/offerhooks";
-import { Candidate, formatSalary, formatDate } from "@/utils/api";
+import { api, Candidate, formatSalary, formatDate } from "@/utils/api";
 import { toast } from "react-hot-toast";
 
 const CreateOfferPage = () => {
@@ -88,10 +88,12 @@ const CreateOfferPage = () => {
 
   const handleSelectTemplate = async (templateId: string) => {
     setSelectedTemplate(templateId);
-    const template = templates?.find(t => t.id.toString() === templateId);
+    const summary = templates?.find(t => t.id.toString() === templateId);
     
-    if (template) {
+    if (summary && token) {
       try {
+        // The template list omits content, so load the selected template in full
+        const template = await api.templates.getTemplate(token, userId, userRole, summary.id);
         const templateContent = JSON.parse(template.templateContent);
         // Update form fields with template content
         Object.keys(templateContent).forEach(key => {
@@ -156,7 +156,8 @@ export interface SignatureDTO {
   offerId: number;
   candidateId: number;
   offerSignatureType: 'TYPED' | 'DRAWN';
-  signatureData: string;
+  signatureData: string | null; // typed signatures only
+  signatureImageUrl: string | null; // drawn signatures: PNG endpoint, relative to the API base URL
   consentText: string;
   signedAt: string;
   signerIp: string;
@@ -218,7 +219,8 @@ export interface ApprovalWorkflowRequest {
 export interface ApprovalStep {
   approverId: number;
   approverRole: string;
-  order: number;
+  order: number; // steps with the same order are reviewed in parallel
+  quorum?: 'ALL' | 'ANY' | string; // or a number of approvals, e.g. '2'
 }
 
 export interface CreateTemplateRequest {
@@ -258,6 +260,16 @@ export interface OfferSummaryDTO {
   totalApprovalsCount: number;
 }
 
+// Pushed over /api/notifications/stream; 'resync' means updates were missed and views should refetch
+export interface LiveUpdateEvent {
+  type: 'offer-status' | 'approval-inbox' | 'resync';
+  offerId: number | null;
+  approvalId: number | null;
+  status: string | null;
+  previousStatus: string | null;
+  occurredAt: string | null;
+}
+
 export interface OfferApprovalDTO {
   id: number;
   offerId: number;
@@ -286,6 +298,18 @@ export interface PendingApprovalDetailDTO {
   offerSummary: string;
 }
 
+// List view of a template; fetch templateContent with api.templates.getTemplate
+export interface OfferTemplateSummaryDTO {
+  id: number;
+  name: string;
+  description: string;
+  category: string;
+  createdBy: number;
+  isActive: boolean;
+  createdAt: string;
+  updatedAt: string;
+}
+
 export interface OfferTemplateDTO {
   id: number;
   name: string;
@@ -303,7 +327,8 @@ export interface SignatureDTO {
   offerId: number;
   candidateId: number;
   offerSignatureType: 'DRAWN' | 'TYPED';
-  signatureData: string;
+  signatureData: string | null; // typed signatures only
+  signatureImageUrl: string | null; // drawn signatures: PNG endpoint, relative to the API base URL
   consentText: string;
   signedAt: string;
   signerIp: string;
@@ -1038,7 +1063,8 @@ export const api = {
    
 
    
-     signOffer: async (token: KeycloakTokenResponse, offerId: number, data: SignOfferRequest): Promise<SignatureDTO> => {
+     // Retries with the same idempotencyKey return the original signature instead of signing again
+     signOffer: async (token: KeycloakTokenResponse, offerId: number, data: SignOfferRequest, idempotencyKey?: string): Promise<SignatureDTO> => {
     try {
       const response = await axios.post(
         `${API_BASE_URL}/api/signatures/offers/${offerId}/sign`,
@@ -1048,7 +1074,8 @@ export const api = {
             'Authorization': `Bearer ${token.access_token}`,
             'Content-Type': 'application/json',
             'X-Forwarded-For': window.location.hostname,
-            'User-Agent': navigator.userAgent
+            'User-Agent': navigator.userAgent,
+            ...(idempotencyKey ? { 'Idempotency-Key': idempotencyKey } : {})
           } 
         }
       );
@@ -1128,6 +1155,73 @@ export const api = {
   
   },
 
+  // ================================
+  // LIVE UPDATES API
+  // ================================
+  live: {
+    // Reads the SSE stream with fetch because EventSource cannot send the auth headers.
+    // Reconnects with Last-Event-ID until the signal is aborted.
+    stream: async (
+      token: KeycloakTokenResponse,
+      userId: string,
+      onEvent: (event: LiveUpdateEvent) => void,
+      signal: AbortSignal
+    ): Promise<void> => {
+      let lastEventId: string | null = null;
+      while (!signal.aborted) {
+        try {
+          const headers: Record<string, string> = {
+            'Authorization': `Bearer ${token.access_token}`,
+            'X-User-Id': userId,
+            'Accept': 'text/event-stream'
+          };
+          if (lastEventId) {
+            headers['Last-Event-ID'] = lastEventId;
+          }
+          const response = await fetch(`${API_BASE_URL}/api/notifications/stream`, { headers, signal });
+          if (!response.ok || !response.body) {
+            throw new Error(`Live update stream failed with ${response.status}`);
+          }
+          const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+          let buffer = '';
+          for (;;) {
+            const { value, done } = await reader.read();
+            if (done) break;
+            buffer += value;
+            let boundary;
+            while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+              const frame = buffer.slice(0, boundary);
+              buffer = buffer.slice(boundary + 2);
+              let id: string | null = null;
+              let name = 'message';
+              let data = '';
+              for (const line of frame.split('\n')) {
+                if (line.startsWith('id:')) id = line.slice(3).trim();
+                else if (line.startsWith('event:')) name = line.slice(6).trim();
+                else if (line.startsWith('data:')) data += line.slice(5).trim();
+              }
+              if (name === 'message') continue; // heartbeat or connect comment
+              if (id) lastEventId = id;
+              const payload = data ? JSON.parse(data) : {};
+              onEvent({
+                type: name as LiveUpdateEvent['type'],
+                offerId: payload.offerId ?? null,
+                approvalId: payload.approvalId ?? null,
+                status: payload.status ?? null,
+                previousStatus: payload.previousStatus ?? null,
+                occurredAt: payload.occurredAt ?? null
+              });
+            }
+          }
+        } catch (error) {
+          if (signal.aborted) return;
+          console.warn('Live update stream interrupted, reconnecting:', error);
+        }
+        await new Promise(resolve => setTimeout(resolve, 1000));
+      }
+    }
+  },
+
   // ================================
   // TEMPLATE API
   // ================================
@@ -1143,7 +1237,7 @@ export const api = {
     },
 
     // Get all active templates
-    getAllTemplates: async (token: KeycloakTokenResponse, userId: string, userRole: string): Promise<OfferTemplateDTO[]> => {
+    getAllTemplates: async (token: KeycloakTokenResponse, userId: string, userRole: string): Promise<OfferTemplateSummaryDTO[]> => {
       try {
         const response = await axios.get(
           `${API_BASE_URL}/api/templates`,
@@ -1156,6 +1250,22 @@ export const api = {
         }
         throw error;
       }
+    },
+
+    // Get a single template including its content
+    getTemplate: async (token: KeycloakTokenResponse, userId: string, userRole: string, templateId: number): Promise<OfferTemplateDTO> => {
+      try {
+        const response = await axios.get(
+          `${API_BASE_URL}/api/templates/${templateId}`,
+          { headers: api.templates.getHeaders(token, userId, userRole) }
+        );
+        return response.data;
+      } catch (error) {
+        if (axios.isAxiosError(error) && error.response) {
+          throw new Error(error.response.data?.message || 'Failed to get template');
+        }
+        throw error;
+      }
     }
   },
 
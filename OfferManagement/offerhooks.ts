@@ -1,4 +1,4 @@
-import { useState, useEffect, useCallback } from 'react';
+import { useState, useEffect, useCallback, useRef } from 'react';
 import { toast } from 'react-hot-toast';
 import { api } from '@/utils/api';
 import { useAuth } from '@/context/AuthContext';
@@ -7,7 +7,8 @@ import {
   OfferSummaryDTO,
   OfferApprovalDTO,
   PendingApprovalDetailDTO,
-  OfferTemplateDTO,
+  LiveUpdateEvent,
+  OfferTemplateSummaryDTO,
   SignatureDTO,
   CreateOfferRequest,
   CreateOfferFromTemplateRequest,
@@ -83,6 +84,42 @@ export const useCandidates = (tenantId?: string) => {
   };
 };
 
+// =============================================================================
+// LIVE UPDATES
+// =============================================================================
+
+// One stream per tab, shared by every mounted hook
+const liveListeners = new Set<(event: LiveUpdateEvent) => void>();
+let liveConnection: { key: string; controller: AbortController } | null = null;
+
+export const useLiveUpdates = (userId: string, onEvent: (event: LiveUpdateEvent) => void) => {
+  const { token } = useAuth();
+  const handlerRef = useRef(onEvent);
+  handlerRef.current = onEvent;
+
+  useEffect(() => {
+    if (!token || !userId) return;
+    const listener = (event: LiveUpdateEvent) => handlerRef.current(event);
+    liveListeners.add(listener);
+
+    const key = `${userId}:${token.access_token}`;
+    if (liveConnection?.key !== key) {
+      liveConnection?.controller.abort();
+      const controller = new AbortController();
+      liveConnection = { key, controller };
+      api.live.stream(token, userId, event => liveListeners.forEach(l => l(event)), controller.signal);
+    }
+
+    return () => {
+      liveListeners.delete(listener);
+      if (liveListeners.size === 0 && liveConnection) {
+        liveConnection.controller.abort();
+        liveConnection = null;
+      }
+    };
+  }, [token, userId]);
+};
+
 // =============================================================================
 // OFFER HOOKS
 // =============================================================================
@@ -115,6 +152,10 @@ export const useOffers = (userId: string, userRole: string) => {
     fetchOffers();
   }, [fetchOffers]);
 
+  useLiveUpdates(userId, event => {
+    if (event.type !== 'approval-inbox') fetchOffers();
+  });
+
   return {
     ...state,
     refetch: fetchOffers,
@@ -150,6 +191,10 @@ export const useOffer = (userId: string, userRole: string, offerId: number | nul
     fetchOffer();
   }, [fetchOffer]);
 
+  useLiveUpdates(userId, event => {
+    if (event.type === 'resync' || event.offerId === offerId) fetchOffer();
+  });
+
   return {
     ...state,
     refetch: fetchOffer,
@@ -299,6 +344,12 @@ export const useOffersByStatus = (userId: string, userRole: string, status: Offe
     fetchOffersByStatus();
   }, [fetchOffersByStatus]);
 
+  useLiveUpdates(userId, event => {
+    if (event.type === 'resync' || event.status === status || event.previousStatus === status) {
+      fetchOffersByStatus();
+    }
+  });
+
   return {
     ...state,
     refetch: fetchOffersByStatus,
@@ -338,6 +389,11 @@ export const usePendingApprovals = (userId: string) => {
     fetchPendingApprovals();
   }, [fetchPendingApprovals]);
 
+  // An offer leaving approval (rejected, withdrawn, completed) takes its steps out of the inbox
+  useLiveUpdates(userId, event => {
+    if (event.type !== 'offer-status' || event.previousStatus === 'PENDING_APPROVAL') fetchPendingApprovals();
+  });
+
   return {
     ...state,
     refetch: fetchPendingApprovals,
@@ -414,7 +470,7 @@ export const useApprovalWorkflow = (userId: string) => {
 
 export const useTemplates = (userId: string, userRole: string) => {
   const { token } = useAuth();
-  const [state, setState] = useState<ApiHookState<OfferTemplateDTO[]>>({
+  const [state, setState] = useState<ApiHookState<OfferTemplateSummaryDTO[]>>({
     data: null,
     loading: true,
     error: null
@@ -457,7 +513,8 @@ export const useSignOffer = () => {
 
   const signOffer = async (
     offerId: number,
-    signatureData: SignOfferRequest
+    signatureData: SignOfferRequest,
+    idempotencyKey?: string
   ): Promise<SignatureDTO | null> => {
     if (!token) {
       toast.error('Authentication required');
@@ -466,7 +523,7 @@ export const useSignOffer = () => {
 
     try {
       setLoading(true);
-      const signature = await api.signatures.signOffer(token, offerId, signatureData);
+      const signature = await api.signatures.signOffer(token, offerId, signatureData, idempotencyKey);
       toast.success('Offer signed successfully!');
       return signature;
     } catch (error) {
@@ -488,7 +545,8 @@ export const useElectronicSignature = () => {
 
   const signOffer = async (
     offerId: number,
-    signatureData: SignOfferRequest
+    signatureData: SignOfferRequest,
+    idempotencyKey?: string
   ): Promise<SignatureDTO | null> => {
     if (!token) {
       toast.error('Authentication required');
@@ -497,7 +555,7 @@ export const useElectronicSignature = () => {
 
     try {
       setLoading(true);
-      const signature = await api.signatures.signOffer(token, offerId, signatureData);
+      const signature = await api.signatures.signOffer(token, offerId, signatureData, idempotencyKey);
       toast.success('Offer signed successfully!');
       return signature;
     } catch (error) {
@@ -32,6 +32,8 @@ const SignatureCollectionPage = () => {
   const navigate = useNavigate();
   const { user, isAuthenticated } = useAuth();
   const canvasRef = useRef<HTMLCanvasElement>(null);
+  // One key per signing session, so a double click or retry cannot sign twice
+  const idempotencyKeyRef = useRef(crypto.randomUUID());
   const [signatureType, setSignatureType] = useState<'TYPED' | 'DRAWN'>('TYPED');
   const [typedSignature, setTypedSignature] = useState("");
   const [drawnSignature, setDrawnSignature] = useState("");
@@ -178,8 +180,10 @@ const SignatureCollectionPage = () => {
       signatureData,
       consentText,
       agreedToElectronicSignature: true
-    });
+    }, idempotencyKeyRef.current);
 
+    // A failed submission keeps its key: a retry after a timeout must find the first attempt,
+    // and the server accepts a corrected signature on a key whose attempt failed
     if (result) {
       setStep('complete');
     }
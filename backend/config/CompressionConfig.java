@@ -0,0 +1,17 @@
+package com.screening.interviews.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Defaults for Spring Boot's own {@code server.compression.*} properties: gzip JSON and NDJSON
+ * responses above 2 KB. Small payloads (304s, sparse field selections) go out uncompressed,
+ * where compression would cost more than it saves. A {@code @PropertySource} ranks below
+ * application.properties and the environment, so any {@code server.compression.*} set there wins.
+ * Tomcat does not compress responses carrying a strong ETag, which is why {@code ETags} builds
+ * weak ones.
+ */
+@Configuration
+@PropertySource("classpath:config/compression-defaults.properties")
+public class CompressionConfig {
+}
@@ -0,0 +1,30 @@
+package com.screening.interviews.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Databases created before versioned migrations are baselined at version 0, the schema in
+ * V0__baseline_schema.sql. Flyway's default baseline of 1 would silently skip V1.
+ */
+@Configuration
+@ConditionalOnClass(Flyway.class)
+public class FlywayConfig {
+
+    @Value("${spring.flyway.baseline-on-migrate:true}")
+    private boolean baselineOnMigrate;
+
+    @Value("${spring.flyway.baseline-version:0}")
+    private String baselineVersion;
+
+    @Bean
+    public FlywayConfigurationCustomizer offerFlywayBaselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(baselineOnMigrate)
+                .baselineVersion(baselineVersion);
+    }
+}
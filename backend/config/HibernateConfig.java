@@ -0,0 +1,77 @@
+package com.screening.interviews.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import java.util.ServiceLoader;
+
+/**
+ * Hibernate tuning for the offer tables. The default {@code jcache} region factory needs
+ * {@code org.hibernate.orm:hibernate-jcache} and a JCache provider (e.g.
+ * {@code org.ehcache:ehcache} with the {@code jakarta} classifier) on the runtime classpath;
+ * without them the second-level and query caches are switched off with a warning instead of
+ * failing the session factory at startup.
+ */
+@Slf4j
+@Configuration
+public class HibernateConfig {
+
+    private static final String JCACHE_REGION_FACTORY = "org.hibernate.cache.jcache.internal.JCacheRegionFactory";
+    private static final String JCACHE_PROVIDER_SPI = "javax.cache.spi.CachingProvider";
+
+    @Value("${app.hibernate.cache.enabled:true}")
+    private boolean secondLevelCacheEnabled;
+
+    @Value("${app.hibernate.cache.region-factory:jcache}")
+    private String regionFactory;
+
+    @Value("${app.hibernate.jdbc.batch-size:50}")
+    private int jdbcBatchSize;
+
+    @Value("${app.hibernate.statistics.enabled:true}")
+    private boolean statisticsEnabled;
+
+    @Bean
+    public HibernatePropertiesCustomizer offerHibernatePropertiesCustomizer() {
+        boolean cacheEnabled = secondLevelCacheEnabled && regionFactoryAvailable();
+        return properties -> {
+            // Second-level and query cache, used for read-mostly OfferTemplate data
+            properties.put("hibernate.cache.use_second_level_cache", cacheEnabled);
+            properties.put("hibernate.cache.use_query_cache", cacheEnabled);
+            if (cacheEnabled) {
+                properties.put("hibernate.cache.region.factory_class", regionFactory);
+                properties.put("hibernate.javax.cache.missing_cache_strategy", "create");
+            }
+            // Pooled sequence ids let Hibernate group inserts; ordering keeps batches per table
+            properties.put("hibernate.jdbc.batch_size", jdbcBatchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+            properties.put("hibernate.jdbc.batch_versioned_data", true);
+
+            properties.put("hibernate.generate_statistics", statisticsEnabled);
+        };
+    }
+
+    // Only the jcache short name is checked; any other factory is taken as configured
+    private boolean regionFactoryAvailable() {
+        if (!"jcache".equals(regionFactory)) {
+            return true;
+        }
+        ClassLoader classLoader = HibernateConfig.class.getClassLoader();
+        if (!ClassUtils.isPresent(JCACHE_REGION_FACTORY, classLoader)
+                || !ClassUtils.isPresent(JCACHE_PROVIDER_SPI, classLoader)) {
+            log.warn("Second-level cache disabled: hibernate-jcache or the JCache API is not on the classpath");
+            return false;
+        }
+        Class<?> providerType = ClassUtils.resolveClassName(JCACHE_PROVIDER_SPI, classLoader);
+        if (ServiceLoader.load(providerType, classLoader).findFirst().isEmpty()) {
+            log.warn("Second-level cache disabled: no JCache provider found (add one, e.g. Ehcache 3)");
+            return false;
+        }
+        return true;
+    }
+}
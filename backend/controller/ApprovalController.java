@@ -1,14 +1,18 @@
 package com.screening.interviews.controller;
 
 import com.screening.interviews.dto.*;
+import com.screening.interviews.model.OfferApproval;
 import com.screening.interviews.model.OfferLetter;
+import com.screening.interviews.repo.OfferLetterRepository;
 import com.screening.interviews.service.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.Set;
 
 
 @RestController
@@ -17,6 +21,7 @@ import java.util.List;
 public class ApprovalController {
 
     private final ApprovalService approvalService;
+    private final ApprovalRoutingEngine approvalRoutingEngine;
 
     @PostMapping("/{id}/action")
     public ResponseEntity<OfferApprovalDTO> processApproval(
@@ -38,9 +43,35 @@ public class ApprovalController {
         return ResponseEntity.ok(approval);
     }
 
-    @GetMapping("/pending")
-    public ResponseEntity<List<OfferApprovalDTO>> getPendingApprovals(
+    @PostMapping("/bulk-action")
+    public ResponseEntity<List<BulkApprovalResultDTO>> processBulkApproval(
+            @RequestBody BulkApprovalActionRequest request,
             @RequestHeader("X-User-Id") Long userId) {
+        List<BulkApprovalResultDTO> results = approvalService.processBulkApproval(request, userId);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/routing/stats")
+    public ResponseEntity<ApprovalRoutingStatsDTO> getRoutingStats() {
+        return ResponseEntity.ok(approvalRoutingEngine.getStats());
+    }
+
+    @PostMapping("/routing/reload")
+    public ResponseEntity<ApprovalRoutingStatsDTO> reloadRoutingRules() {
+        boolean loaded = approvalRoutingEngine.reload();
+        ApprovalRoutingStatsDTO stats = approvalRoutingEngine.getStats();
+        return loaded ? ResponseEntity.ok(stats) : ResponseEntity.badRequest().body(stats);
+    }
+
+    @GetMapping("/pending")
+    public ResponseEntity<?> getPendingApprovals(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestParam(required = false) String fields) {
+        Set<String> selected = SparseFieldQuery.parse(fields);
+        if (selected != null) {
+            return ResponseEntity.ok(approvalService.listApprovalFields(
+                    null, userId, OfferApproval.ApprovalStatus.PENDING, selected));
+        }
         List<OfferApprovalDTO> approvals = approvalService.getPendingApprovals(userId);
         return ResponseEntity.ok(approvals);
     }
@@ -53,14 +84,31 @@ public class ApprovalController {
     }
 
     @GetMapping("/offer/{offerId}")
-    public ResponseEntity<List<OfferApprovalDTO>> getOfferApprovals(@PathVariable Long offerId) {
+    public ResponseEntity<?> getOfferApprovals(
+            @PathVariable Long offerId,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        OfferLetterRepository.VersionStamp stamp = approvalService.getOfferApprovalsVersionStamp(offerId);
+        String etag = ETags.of("offer-approvals-" + offerId, stamp.getVersion(), stamp.getUpdatedAt());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        Set<String> selected = SparseFieldQuery.parse(fields);
+        if (selected != null) {
+            return ResponseEntity.ok().eTag(etag).body(approvalService.listApprovalFields(offerId, null, null, selected));
+        }
         List<OfferApprovalDTO> approvals = approvalService.getOfferApprovals(offerId);
-        return ResponseEntity.ok(approvals);
+        return ResponseEntity.ok().eTag(etag).body(approvals);
     }
 
     @GetMapping("/my-approvals")
-    public ResponseEntity<List<OfferApprovalDTO>> getMyApprovals(
-            @RequestHeader("X-User-Id") Long userId) {
+    public ResponseEntity<?> getMyApprovals(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestParam(required = false) String fields) {
+        Set<String> selected = SparseFieldQuery.parse(fields);
+        if (selected != null) {
+            return ResponseEntity.ok(approvalService.listApprovalFields(null, userId, null, selected));
+        }
         List<OfferApprovalDTO> approvals = approvalService.getAllApprovalsForUser(userId);
         return ResponseEntity.ok(approvals);
     }
@@ -70,8 +118,9 @@ public class ApprovalController {
             @PathVariable Long offerId,
             @RequestParam Long approverId,
             @RequestParam String approverRole,
-            @RequestParam Integer order) {
-        OfferApprovalDTO approval = approvalService.addApprover(offerId, approverId, approverRole, order);
+            @RequestParam Integer order,
+            @RequestParam(required = false) String quorum) {
+        OfferApprovalDTO approval = approvalService.addApprover(offerId, approverId, approverRole, order, quorum);
         return ResponseEntity.ok(approval);
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.screening.interviews.controller;
+
+import com.screening.interviews.dto.OfferJournalEntryDTO;
+import com.screening.interviews.service.OfferEventJournal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+public class AuditController {
+
+    private final OfferEventJournal offerEventJournal;
+
+    @GetMapping("/journal")
+    public ResponseEntity<List<OfferJournalEntryDTO>> replayJournal(
+            @RequestParam(required = false, defaultValue = "1") long fromSequence,
+            @RequestParam(required = false, defaultValue = "100") int limit) {
+        return ResponseEntity.ok(offerEventJournal.replay(fromSequence, limit));
+    }
+
+    @GetMapping("/journal/tail")
+    public ResponseEntity<List<OfferJournalEntryDTO>> tailJournal(
+            @RequestParam(required = false, defaultValue = "50") int limit) {
+        return ResponseEntity.ok(offerEventJournal.tail(limit));
+    }
+
+    @GetMapping("/offers/{offerId}/history")
+    public ResponseEntity<List<OfferJournalEntryDTO>> getOfferHistory(@PathVariable Long offerId) {
+        return ResponseEntity.ok(offerEventJournal.history(offerId));
+    }
+}
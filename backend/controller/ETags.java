@@ -0,0 +1,28 @@
+package com.screening.interviews.controller;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Builds weak ETags from version stamps, so controllers can answer If-None-Match
+ * through {@code WebRequest.checkNotModified} before loading or serializing anything.
+ * Weak, because the same representation may go out gzipped or not (Tomcat skips
+ * compression for strong ETags), and If-None-Match only needs the weak comparison.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(String kind, Object... parts) {
+        StringBuilder tag = new StringBuilder("W/\"").append(kind);
+        for (Object part : parts) {
+            tag.append('-').append(part instanceof LocalDateTime time ? epochMillis(time) : part);
+        }
+        return tag.append('"').toString();
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
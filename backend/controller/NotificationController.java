@@ -0,0 +1,34 @@
+package com.screening.interviews.controller;
+
+import com.screening.interviews.dto.NotificationOutboxMetricsDTO;
+import com.screening.interviews.service.LiveUpdateHub;
+import com.screening.interviews.service.NotificationOutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+    private final LiveUpdateHub liveUpdateHub;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUpdates(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return ResponseEntity.ok()
+                .header("Cache-Control", "no-cache")
+                .header("X-Accel-Buffering", "no")
+                .body(liveUpdateHub.subscribe(userId, lastEventId));
+    }
+
+    @GetMapping("/outbox/metrics")
+    public ResponseEntity<NotificationOutboxMetricsDTO> getOutboxMetrics() {
+        return ResponseEntity.ok(notificationOutboxDispatcher.getMetrics());
+    }
+}
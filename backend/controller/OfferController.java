@@ -2,12 +2,17 @@ package com.screening.interviews.controller;
 
 import com.screening.interviews.dto.*;
 import com.screening.interviews.model.OfferLetter;
+import com.screening.interviews.repo.OfferLetterRepository;
 import com.screening.interviews.service.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/offers")
@@ -17,6 +22,8 @@ public class OfferController {
     private final OfferLetterService offerLetterService;
     private final PdfService pdfService;
     private final AIEnhancementService aiEnhancementService;
+    private final BulkOfferService bulkOfferService;
+    private final DashboardMetricsService dashboardMetricsService;
 
     @PostMapping
     public ResponseEntity<OfferLetterDTO> createOffer(
@@ -34,6 +41,17 @@ public class OfferController {
         return ResponseEntity.ok(offer);
     }
 
+    @PostMapping(value = "/bulk-from-template", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> createOffersFromTemplate(
+            @RequestBody BulkCreateOffersRequest request,
+            @RequestHeader("X-User-Id") Long userId) {
+        OfferTemplateService.PreparedTemplate template = bulkOfferService.prepare(request);
+        StreamingResponseBody body = out -> bulkOfferService.createOffers(template, request, userId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @RequestMapping(value = "/enhance", method = RequestMethod.POST)
     public ResponseEntity<EnhanceOfferResponse> enhanceOffer(
             @RequestBody EnhanceOfferRequest request) {
@@ -59,21 +77,82 @@ public class OfferController {
     }
 
     @RequestMapping(value = "/status/{status}", method = RequestMethod.GET)
-    public ResponseEntity<List<OfferSummaryDTO>> getOffersByStatus(@PathVariable OfferLetter.OfferStatus status) {
+    public ResponseEntity<?> getOffersByStatus(
+            @PathVariable OfferLetter.OfferStatus status,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        String etag = listETag("offers-status-" + status, offerLetterService.getOfferListStamp(status, null));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        Set<String> selected = SparseFieldQuery.parse(fields);
+        if (selected != null) {
+            return ResponseEntity.ok().eTag(etag).body(offerLetterService.listOfferFields(status, null, selected));
+        }
         List<OfferSummaryDTO> offers = offerLetterService.getOffersByStatus(status);
-        return ResponseEntity.ok(offers);
+        return ResponseEntity.ok().eTag(etag).body(offers);
     }
 
     @RequestMapping(value = "/my-offers", method = RequestMethod.GET)
-    public ResponseEntity<List<OfferSummaryDTO>> getMyOffers(@RequestHeader("X-User-Id") Long userId) {
+    public ResponseEntity<?> getMyOffers(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        String etag = listETag("offers-creator-" + userId, offerLetterService.getOfferListStamp(null, userId));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        Set<String> selected = SparseFieldQuery.parse(fields);
+        if (selected != null) {
+            return ResponseEntity.ok().eTag(etag).body(offerLetterService.listOfferFields(null, userId, selected));
+        }
         List<OfferSummaryDTO> offers = offerLetterService.getOffersByCreator(userId);
-        return ResponseEntity.ok(offers);
+        return ResponseEntity.ok().eTag(etag).body(offers);
     }
 
     @RequestMapping(method = RequestMethod.GET)
-    public ResponseEntity<List<OfferSummaryDTO>> getAllOffers() {
+    public ResponseEntity<?> getAllOffers(
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        String etag = listETag("offers", offerLetterService.getOfferListStamp(null, null));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        Set<String> selected = SparseFieldQuery.parse(fields);
+        if (selected != null) {
+            return ResponseEntity.ok().eTag(etag).body(offerLetterService.listOfferFields(null, null, selected));
+        }
         List<OfferSummaryDTO> offers = offerLetterService.getAllOffers();
-        return ResponseEntity.ok(offers);
+        return ResponseEntity.ok().eTag(etag).body(offers);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<OfferSearchResultDTO> searchOffers(
+            @RequestParam String q,
+            @RequestParam(required = false, defaultValue = "PREFIX") String mode,
+            @RequestParam(required = false) OfferLetter.OfferStatus status,
+            @RequestParam(required = false) Long createdBy,
+            @RequestParam(required = false) Long minSalary,
+            @RequestParam(required = false) Long maxSalary,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        OfferSearchResultDTO result = offerLetterService.searchOffers(
+                q, mode, status, createdBy, minSalary, maxSalary, page, size);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/aggregates")
+    public ResponseEntity<DashboardAggregatesDTO> getDashboardAggregates() {
+        return ResponseEntity.ok(dashboardMetricsService.getAggregates());
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportOffers() {
+        StreamingResponseBody body = offerLetterService::exportOffersAsNdjson;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header("Content-Disposition", "attachment; filename=offers.ndjson")
+                .body(body);
     }
 
     @PostMapping("/{id}/submit")
@@ -98,9 +177,24 @@ public class OfferController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<OfferLetterDTO> getOffer(@PathVariable Long id) {
+    public ResponseEntity<?> getOffer(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            WebRequest webRequest) {
+        // Decided from the version stamp alone; the offer is only loaded when it changed
+        OfferLetterRepository.VersionStamp stamp = offerLetterService.getOfferVersionStamp(id);
+        String etag = ETags.of("offer-" + id, stamp.getVersion(), stamp.getUpdatedAt());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        Set<String> selected = SparseFieldQuery.parse(fields);
+        Set<String> included = SparseFieldQuery.parse(include);
+        if (selected != null || included != null) {
+            return ResponseEntity.ok().eTag(etag).body(offerLetterService.getOfferFields(id, selected, included));
+        }
         OfferLetterDTO offer = offerLetterService.getOffer(id);
-        return ResponseEntity.ok(offer);
+        return ResponseEntity.ok().eTag(etag).body(offer);
     }
 
     @PutMapping("/{id}")
@@ -111,4 +205,8 @@ public class OfferController {
         OfferLetterDTO offer = offerLetterService.updateOffer(id, request, userId);
         return ResponseEntity.ok(offer);
     }
+
+    private static String listETag(String kind, OfferLetterRepository.ListStamp stamp) {
+        return ETags.of(kind, stamp.getCount(), stamp.getVersion(), stamp.getUpdatedAt());
+    }
 }
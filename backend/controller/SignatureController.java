@@ -4,11 +4,14 @@ import com.screening.interviews.dto.*;
 import com.screening.interviews.model.OfferLetter;
 import com.screening.interviews.service.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 @RestController
 @RequestMapping("/api/signatures")
 @RequiredArgsConstructor
@@ -22,12 +25,16 @@ public class SignatureController {
     public ResponseEntity<SignatureDTO> signOffer(
             @PathVariable Long offerId,
             @RequestBody SignOfferRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             HttpServletRequest httpRequest) {
 
         String signerIp = getClientIpAddress(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
 
-        SignatureDTO signature = signatureService.signOffer(offerId, request, signerIp, userAgent);
+        if (idempotencyKey != null && idempotencyKey.length() > 255) {
+            return ResponseEntity.badRequest().build();
+        }
+        SignatureDTO signature = signatureService.signOffer(offerId, request, signerIp, userAgent, idempotencyKey);
         return ResponseEntity.ok(signature);
     }
 
@@ -37,6 +44,16 @@ public class SignatureController {
         return ResponseEntity.ok(signature);
     }
 
+    // A signature never changes once made, so clients may cache the image for good
+    @GetMapping(value = "/offers/{offerId}/image", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getSignatureImage(@PathVariable Long offerId) {
+        byte[] image = signatureService.getSignatureImage(offerId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate())
+                .body(image);
+    }
+
     @GetMapping("/offers/{offerId}/signed-pdf")
     public ResponseEntity<byte[]> downloadSignedPdf(@PathVariable Long offerId) {
         try {
@@ -2,10 +2,12 @@ package com.screening.interviews.controller;
 
 import com.screening.interviews.dto.*;
 import com.screening.interviews.model.OfferLetter;
+import com.screening.interviews.repo.OfferTemplateRepository;
 import com.screening.interviews.service.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
@@ -41,21 +43,44 @@ public class TemplateController {
     }
 
     @GetMapping
-    public ResponseEntity<List<OfferTemplateDTO>> getAllActiveTemplates() {
-        List<OfferTemplateDTO> templates = offerTemplateService.getAllActiveTemplates();
-        return ResponseEntity.ok(templates);
+    public ResponseEntity<List<OfferTemplateSummaryDTO>> getAllActiveTemplates(WebRequest webRequest) {
+        String etag = listETag("templates", offerTemplateService.getActiveTemplatesStamp(null, null));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<OfferTemplateSummaryDTO> templates = offerTemplateService.getAllActiveTemplates();
+        return ResponseEntity.ok().eTag(etag).body(templates);
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<OfferTemplateDTO>> getTemplatesByCategory(@PathVariable String category) {
-        List<OfferTemplateDTO> templates = offerTemplateService.getTemplatesByCategory(category);
-        return ResponseEntity.ok(templates);
+    public ResponseEntity<List<OfferTemplateSummaryDTO>> getTemplatesByCategory(
+            @PathVariable String category,
+            WebRequest webRequest) {
+        String etag = listETag("templates-category-" + category,
+                offerTemplateService.getActiveTemplatesStamp(category, null));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<OfferTemplateSummaryDTO> templates = offerTemplateService.getTemplatesByCategory(category);
+        return ResponseEntity.ok().eTag(etag).body(templates);
     }
 
     @GetMapping("/my-templates")
-    public ResponseEntity<List<OfferTemplateDTO>> getMyTemplates(@RequestHeader("X-User-Id") Long userId) {
-        List<OfferTemplateDTO> templates = offerTemplateService.getMyTemplates(userId);
-        return ResponseEntity.ok(templates);
+    public ResponseEntity<List<OfferTemplateSummaryDTO>> getMyTemplates(
+            @RequestHeader("X-User-Id") Long userId,
+            WebRequest webRequest) {
+        String etag = listETag("templates-creator-" + userId,
+                offerTemplateService.getActiveTemplatesStamp(null, userId));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<OfferTemplateSummaryDTO> templates = offerTemplateService.getMyTemplates(userId);
+        return ResponseEntity.ok().eTag(etag).body(templates);
+    }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<TemplateCacheStatsDTO> getCacheStatistics() {
+        return ResponseEntity.ok(offerTemplateService.getCacheStatistics());
     }
 
     @DeleteMapping("/{id}")
@@ -65,4 +90,8 @@ public class TemplateController {
         offerTemplateService.deactivateTemplate(id, userId);
         return ResponseEntity.ok().build();
     }
+
+    private static String listETag(String kind, OfferTemplateRepository.ListStamp stamp) {
+        return ETags.of(kind, stamp.getCount(), stamp.getUpdatedAt());
+    }
 }
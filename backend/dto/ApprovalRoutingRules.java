@@ -0,0 +1,41 @@
+package com.screening.interviews.dto;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Contents of the approval routing rules file (app.approvals.routing.rules-file). Every rule
+ * whose conditions all hold contributes its steps, in priority order; a matching rule with
+ * {@code stop} ends evaluation. Empty or missing conditions match anything.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalRoutingRules {
+    private List<Rule> rules;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private String name;
+        private int priority;    // lower runs first
+        private Condition when;
+        private List<ApprovalWorkflowRequest.ApprovalStep> steps;
+        private boolean stop;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Condition {
+        private Long minSalary;  // inclusive
+        private Long maxSalary;  // exclusive
+        private List<String> templateCategories;
+        private List<String> creatorRoles;
+        private List<String> departments;
+        private List<String> employmentTypes;
+    }
+}
@@ -0,0 +1,19 @@
+package com.screening.interviews.dto;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalRoutingStatsDTO {
+    private int ruleCount;
+    private int salaryBands;        // elementary salary intervals in the compiled table
+    private long compileMicros;
+    private LocalDateTime loadedAt;
+    private String lastError;       // last reload failure; the previous rules stay active
+    private long evaluations;       // since startup
+    private double averageEvaluationNanos;
+}
@@ -18,6 +18,7 @@ public class ApprovalWorkflowRequest {
     public static class ApprovalStep {
         private Long approverId;
         private String approverRole;
-        private Integer order;
+        private Integer order;   // steps with the same order are reviewed in parallel
+        private String quorum;   // ALL (default), ANY or a number of approvals that completes the stage
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.screening.interviews.dto;
+import com.screening.interviews.model.OfferApproval;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApprovalActionRequest {
+    private List<Long> approvalIds; // specific approval steps
+    private List<Long> offerIds;    // or offers, resolved to the caller's single pending step
+    private OfferApproval.ApprovalStatus action; // APPROVED, REJECTED, SKIPPED
+    private String comment;
+}
@@ -0,0 +1,16 @@
+package com.screening.interviews.dto;
+import com.screening.interviews.model.OfferApproval;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApprovalResultDTO {
+    private Long approvalId;
+    private Long offerId;
+    private boolean success;
+    private OfferApproval.ApprovalStatus status;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package com.screening.interviews.dto;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateOffersRequest {
+    private Long templateId;
+    private List<CandidateOffer> candidates;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CandidateOffer {
+        private Long candidateId;
+        private String customizations; // JSON, same shape as CreateOfferFromTemplateRequest.customizations
+    }
+}
@@ -0,0 +1,15 @@
+package com.screening.interviews.dto;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOfferResultDTO {
+    private int index; // position in BulkCreateOffersRequest.candidates
+    private Long candidateId;
+    private Long offerId;
+    private boolean success;
+    private String error;
+}
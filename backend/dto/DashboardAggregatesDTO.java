@@ -0,0 +1,19 @@
+package com.screening.interviews.dto;
+
+import com.screening.interviews.model.OfferLetter;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardAggregatesDTO {
+    private Map<OfferLetter.OfferStatus, Long> offersByStatus;
+    private Map<Long, Long> offersByCreator;
+    private Map<Long, Long> pendingApprovalsByApprover;
+    private long signedToday;
+    private LocalDateTime reconciledAt;
+}
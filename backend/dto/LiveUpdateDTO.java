@@ -0,0 +1,17 @@
+package com.screening.interviews.dto;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveUpdateDTO {
+    private Long offerId;
+    private Long approvalId;     // null for offer status events
+    private String status;      // new offer or step status; ACTIVATED / REASSIGNED for inbox changes
+    private String previousStatus;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,20 @@
+package com.screening.interviews.dto;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutboxMetricsDTO {
+    private long pending;          // rows waiting for a (re)try
+    private long failed;           // rows that exhausted their attempts
+    private long sentTotal;        // since startup
+    private long failedTotal;      // since startup, attempts that threw
+    private long retriesScheduled; // since startup
+    private long coalescedTotal;   // since startup, approval requests dropped as duplicate or stale
+    private double averageLagMs;   // commit-to-delivery lag of messages sent since startup
+    private LocalDateTime lastDispatchAt;
+}
@@ -0,0 +1,21 @@
+package com.screening.interviews.dto;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfferJournalEntryDTO {
+    private long sequence;
+    private Long offerId;
+    private String type;           // OfferEventJournal.EntryType
+    private Long actorId;          // null for system-driven changes
+    private Long approvalId;       // approval entries only
+    private Long approverId;       // approval entries only; the new owner for reassignments
+    private String previousStatus;
+    private String newStatus;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,16 @@
+package com.screening.interviews.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfferSearchResultDTO {
+    private List<OfferSummaryDTO> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -19,4 +19,7 @@ public class OfferSummaryDTO {
     private LocalDateTime createdAt;
     private int pendingApprovalsCount;
     private int totalApprovalsCount;
+    private String candidateName;
+    private String position;
+    private String salary;
 }
\ No newline at end of file
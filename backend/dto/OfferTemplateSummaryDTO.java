@@ -0,0 +1,21 @@
+package com.screening.interviews.dto;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// List view of a template; templateContent is fetched through GET /api/templates/{id}
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfferTemplateSummaryDTO {
+    private Long id;
+    private String name;
+    private String description;
+    private String category;
+    private Long createdBy;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -16,7 +16,8 @@ public class SignatureDTO {
     private Long offerId;
     private Long candidateId;
     private Signature.OfferSignatureType offerSignatureType;
-    private String signatureData;
+    private String signatureData;      // typed signatures only
+    private String signatureImageUrl;  // drawn signatures: endpoint serving the PNG
     private String consentText;
     private LocalDateTime signedAt;
     private String signerIp;
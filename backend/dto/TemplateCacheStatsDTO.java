@@ -0,0 +1,17 @@
+package com.screening.interviews.dto;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateCacheStatsDTO {
+    private boolean statisticsEnabled;
+    private long entityHitCount;
+    private long entityMissCount;
+    private long entityPutCount;
+    private long queryHitCount;
+    private long queryMissCount;
+    private long queryPutCount;
+}
@@ -0,0 +1,19 @@
+package com.screening.interviews.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by ApprovalService when an approval step's stage becomes current and its
+ * approver is asked to act. SLA deadlines are measured from {@code activatedAt}.
+ */
+@Data
+@AllArgsConstructor
+public class ApprovalActivatedEvent {
+    private Long approvalId;
+    private Long offerId;
+    private Long approverId;
+    private LocalDateTime activatedAt;
+}
@@ -0,0 +1,21 @@
+package com.screening.interviews.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by ApprovalService when a pending step is handed to another approver.
+ * The step stays PENDING; only its owner changes.
+ */
+@Data
+@AllArgsConstructor
+public class ApprovalReassignedEvent {
+    private Long approvalId;
+    private Long offerId;
+    private Long previousApproverId;
+    private Long newApproverId;
+    private Long actorId; // null for system-driven reassignment
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,24 @@
+package com.screening.interviews.event;
+
+import com.screening.interviews.model.OfferApproval;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by ApprovalService when an approval step is created or acted on.
+ * {@code previousStatus} is null for a newly created step.
+ */
+@Data
+@AllArgsConstructor
+public class ApprovalStatusChangedEvent {
+    private Long approvalId;
+    private Long offerId;
+    private Long approverId;
+    private Integer approvalOrder;
+    private OfferApproval.ApprovalStatus previousStatus;
+    private OfferApproval.ApprovalStatus newStatus;
+    private Long actorId; // null for system-driven transitions
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,18 @@
+package com.screening.interviews.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Published by OfferContentBackfillJob for each batch of offers whose extracted fields
+ * (candidate name, position, salary) it has just written.
+ */
+@Data
+@AllArgsConstructor
+public class OfferContentBackfilledEvent {
+    private Set<Long> offerIds;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,69 @@
+package com.screening.interviews.event;
+
+import com.screening.interviews.model.OfferApproval;
+import com.screening.interviews.model.OfferLetter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Single place the services use to announce offer and approval state changes.
+ * Listeners that react to committed state use {@code @TransactionalEventListener}.
+ */
+@Component
+@RequiredArgsConstructor
+public class OfferEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void offerStatusChanged(OfferLetter offer, OfferLetter.OfferStatus previousStatus, Long actorId) {
+        applicationEventPublisher.publishEvent(new OfferStatusChangedEvent(
+                offer.getId(),
+                offer.getCreatedBy(),
+                previousStatus,
+                offer.getStatus(),
+                actorId,
+                LocalDateTime.now()));
+    }
+
+    public void offerUpdated(OfferLetter offer, Long actorId) {
+        applicationEventPublisher.publishEvent(new OfferUpdatedEvent(offer.getId(), actorId, LocalDateTime.now()));
+    }
+
+    public void offerContentBackfilled(Set<Long> offerIds) {
+        applicationEventPublisher.publishEvent(new OfferContentBackfilledEvent(offerIds, LocalDateTime.now()));
+    }
+
+    public void approvalStatusChanged(OfferApproval approval, OfferApproval.ApprovalStatus previousStatus, Long actorId) {
+        applicationEventPublisher.publishEvent(new ApprovalStatusChangedEvent(
+                approval.getId(),
+                approval.getOffer().getId(),
+                approval.getApproverId(),
+                approval.getApprovalOrder(),
+                previousStatus,
+                approval.getStatus(),
+                actorId,
+                LocalDateTime.now()));
+    }
+
+    public void approvalActivated(OfferApproval approval) {
+        applicationEventPublisher.publishEvent(new ApprovalActivatedEvent(
+                approval.getId(),
+                approval.getOffer().getId(),
+                approval.getApproverId(),
+                approval.getActivatedAt()));
+    }
+
+    public void approvalReassigned(OfferApproval approval, Long previousApproverId, Long actorId) {
+        applicationEventPublisher.publishEvent(new ApprovalReassignedEvent(
+                approval.getId(),
+                approval.getOffer().getId(),
+                previousApproverId,
+                approval.getApproverId(),
+                actorId,
+                LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.screening.interviews.event;
+
+import com.screening.interviews.model.OfferLetter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the services whenever an offer is created or moves to another status.
+ * {@code previousStatus} is null for a newly created offer.
+ */
+@Data
+@AllArgsConstructor
+public class OfferStatusChangedEvent {
+    private Long offerId;
+    private Long createdBy;
+    private OfferLetter.OfferStatus previousStatus;
+    private OfferLetter.OfferStatus newStatus;
+    private Long actorId; // null for system-driven transitions
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,18 @@
+package com.screening.interviews.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by OfferLetterService when a draft offer's content is edited.
+ * The status does not change; see OfferStatusChangedEvent for transitions.
+ */
+@Data
+@AllArgsConstructor
+public class OfferUpdatedEvent {
+    private Long offerId;
+    private Long actorId;
+    private LocalDateTime occurredAt;
+}
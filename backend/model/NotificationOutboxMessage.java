@@ -0,0 +1,59 @@
+package com.screening.interviews.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_status_next", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_notification_outbox_recipient", columnList = "recipientId, status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MessageType type;
+
+    @Column(nullable = false)
+    private Long aggregateId; // approval id for APPROVAL_REQUEST, offer id otherwise
+
+    private Long recipientId; // approver of an APPROVAL_REQUEST; rows no longer awaiting them are dropped
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MessageStatus status = MessageStatus.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(columnDefinition = "text")
+    private String lastError;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    public enum MessageType {
+        APPROVAL_REQUEST, OFFER_TO_CANDIDATE, SIGNED_OFFER
+    }
+
+    public enum MessageStatus {
+        PENDING, SENT, FAILED
+    }
+}
@@ -10,13 +10,18 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 @Entity
-@Table(name = "offer_approvals")
+@Table(name = "offer_approvals", indexes = {
+        @Index(name = "idx_offer_approvals_approver_status", columnList = "approverId, status"),
+        @Index(name = "idx_offer_approvals_offer_status_order", columnList = "offer_id, status, approvalOrder"),
+        @Index(name = "idx_offer_approvals_offer_order", columnList = "offer_id, approvalOrder")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class OfferApproval {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "offer_approvals_seq")
+    @SequenceGenerator(name = "offer_approvals_seq", sequenceName = "offer_approvals_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,7 +35,9 @@ public class OfferApproval {
     private String approverRole; // Role from auth service
 
     @Column(nullable = false)
-    private Integer approvalOrder;
+    private Integer approvalOrder; // steps sharing an order form one parallel stage
+
+    private Integer requiredApprovals; // stage quorum; null means every step of the stage
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -41,6 +48,12 @@ public class OfferApproval {
 
     private LocalDateTime actionTimestamp;
 
+    private LocalDateTime activatedAt; // when the step's stage became current; SLA clock start
+
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     public enum ApprovalStatus {
         PENDING, APPROVED, REJECTED, SKIPPED
     }
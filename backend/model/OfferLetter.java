@@ -12,13 +12,18 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "offer_letters")
+@Table(name = "offer_letters", indexes = {
+        @Index(name = "idx_offer_letters_status", columnList = "status"),
+        @Index(name = "idx_offer_letters_created_by", columnList = "createdBy"),
+        @Index(name = "idx_offer_letters_salary_amount", columnList = "salaryAmount")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class OfferLetter {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "offer_letters_seq")
+    @SequenceGenerator(name = "offer_letters_seq", sequenceName = "offer_letters_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -36,12 +41,40 @@ public class OfferLetter {
 
     private String signedPdfUrl;
 
+    private String templateCategory; // category of the template the offer was created from; feeds approval routing
+
+    // Searchable fields copied out of offerContent by OfferContentExtractor on every write
+    private String candidateName;
+
+    private String position;
+
+    private String salary; // as entered, e.g. "$120,000"
+
+    private Long salaryAmount; // digits of salary, for band filters
+
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private Boolean contentExtracted = false;
+
+    // Denormalized approval-chain state, maintained by ApprovalService in the same
+    // transaction as the approval rows and re-checked by ApprovalCounterRepairJob.
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private Integer totalApprovals = 0;
+
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private Integer pendingApprovals = 0;
+
+    private Integer currentApprovalOrder; // lowest approvalOrder still PENDING, null when none
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version; // also feeds the offer and approval-list ETags
+
     @OneToMany(mappedBy = "offer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OfferApproval> approvals;
 
@@ -3,6 +3,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,13 +12,21 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "offer_templates")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = OfferTemplate.CACHE_REGION)
+@Table(name = "offer_templates", indexes = {
+        @Index(name = "idx_offer_templates_active_category", columnList = "isActive, category"),
+        @Index(name = "idx_offer_templates_created_by_active", columnList = "createdBy, isActive")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class OfferTemplate {
+    public static final String CACHE_REGION = "offerTemplates";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "offer_templates_seq")
+    @SequenceGenerator(name = "offer_templates_seq", sequenceName = "offer_templates_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
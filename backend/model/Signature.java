@@ -8,13 +8,17 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "signatures")
+@Table(name = "signatures", indexes = {
+        @Index(name = "idx_signatures_offer", columnList = "offer_id"),
+        @Index(name = "idx_signatures_candidate", columnList = "candidateId")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Signature {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "signatures_seq")
+    @SequenceGenerator(name = "signatures_seq", sequenceName = "signatures_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,7 +33,9 @@ public class Signature {
     private OfferSignatureType signatureType;
 
     @Column(columnDefinition = "text")
-    private String signatureData; // base64 for drawn, text for typed
+    private String signatureData; // typed text; drawn images live in object storage (legacy rows may still hold base64)
+
+    private String signatureImageKey; // MinIO object name of the normalized PNG for drawn signatures
 
     @Column(columnDefinition = "text")
     private String consentText;
@@ -0,0 +1,55 @@
+package com.screening.interviews.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "signing_attempts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_signing_attempts_offer_key", columnNames = {"offer_id", "idempotency_key"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningAttempt {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "signing_attempts_seq")
+    @SequenceGenerator(name = "signing_attempts_seq", sequenceName = "signing_attempts_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "offer_id", nullable = false)
+    private Long offerId;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String requestHash; // a reused key must carry the same signature
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AttemptStatus status = AttemptStatus.IN_PROGRESS;
+
+    private Long signatureId; // set once COMPLETED
+
+    @Column(columnDefinition = "text")
+    private String lastError;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @Version
+    private Long version;
+
+    public enum AttemptStatus {
+        IN_PROGRESS, COMPLETED, FAILED
+    }
+}
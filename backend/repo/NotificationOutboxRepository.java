@@ -0,0 +1,39 @@
+package com.screening.interviews.repo;
+
+import com.screening.interviews.model.NotificationOutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxMessage, Long> {
+
+    // FOR UPDATE SKIP LOCKED on Postgres (lock timeout -2), so concurrent dispatchers claim disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from NotificationOutboxMessage m where m.status = :status and m.nextAttemptAt <= :now order by m.id")
+    List<NotificationOutboxMessage> claimDue(@Param("status") NotificationOutboxMessage.MessageStatus status,
+                                             @Param("now") LocalDateTime now,
+                                             Pageable pageable);
+
+    List<NotificationOutboxMessage> findByTypeAndRecipientIdAndStatus(NotificationOutboxMessage.MessageType type,
+                                                                      Long recipientId,
+                                                                      NotificationOutboxMessage.MessageStatus status);
+
+    long countByStatus(NotificationOutboxMessage.MessageStatus status);
+
+    @Modifying
+    @Query("delete from NotificationOutboxMessage m where m.status = :status and m.sentAt < :before")
+    int deleteSentBefore(@Param("status") NotificationOutboxMessage.MessageStatus status,
+                         @Param("before") LocalDateTime before);
+}
@@ -1,10 +1,16 @@
 package com.screening.interviews.repo;
 
 import com.screening.interviews.model.OfferApproval;
+import com.screening.interviews.model.OfferLetter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 @Repository
 public interface OfferApprovalRepository extends JpaRepository<OfferApproval, Long> {
     List<OfferApproval> findByOfferIdOrderByApprovalOrder(Long offerId);
@@ -12,4 +18,109 @@ public interface OfferApprovalRepository extends JpaRepository<OfferApproval, Lo
     List<OfferApproval> findByOfferIdAndStatus(Long offerId, OfferApproval.ApprovalStatus status);
     List<OfferApproval> findByApproverId(Long approverId);
     List<OfferApproval> findByOfferIdAndApproverIdAndStatus(Long offerId, Long approverId, OfferApproval.ApprovalStatus status);
-}
\ No newline at end of file
+    Optional<OfferApproval> findFirstByOfferIdAndStatusOrderByApprovalOrder(Long offerId, OfferApproval.ApprovalStatus status);
+
+    // Bulk actions: approvals and their offers in one query each
+    @Query("select a from OfferApproval a join fetch a.offer where a.id in :ids")
+    List<OfferApproval> findAllWithOfferByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select a from OfferApproval a join fetch a.offer " +
+            "where a.offer.id in :offerIds and a.approverId = :approverId and a.status = :status")
+    List<OfferApproval> findWithOfferByOfferIdInAndApproverIdAndStatus(@Param("offerIds") Collection<Long> offerIds,
+                                                                       @Param("approverId") Long approverId,
+                                                                       @Param("status") OfferApproval.ApprovalStatus status);
+
+    List<OfferApproval> findByOfferIdInAndStatus(Collection<Long> offerIds, OfferApproval.ApprovalStatus status);
+
+    // Pending steps of current stages, i.e. the ones an approver is waiting on; rebuilds the SLA wheel
+    @Query("select a.id as approvalId, a.activatedAt as activatedAt from OfferApproval a join a.offer o " +
+            "where a.status = com.screening.interviews.model.OfferApproval.ApprovalStatus.PENDING " +
+            "and o.status = com.screening.interviews.model.OfferLetter.OfferStatus.PENDING_APPROVAL " +
+            "and a.approvalOrder = o.currentApprovalOrder")
+    List<ActiveApprovalRow> findActivePendingApprovals();
+
+    // Per-stage tallies for quorum evaluation; SKIPPED counts toward the quorum like APPROVED
+    @Query("select a.offer.id as offerId, a.approvalOrder as approvalOrder, count(a) as total, " +
+            "sum(case when a.status in (com.screening.interviews.model.OfferApproval.ApprovalStatus.APPROVED, " +
+            "com.screening.interviews.model.OfferApproval.ApprovalStatus.SKIPPED) then 1 else 0 end) as satisfied, " +
+            "sum(case when a.status = com.screening.interviews.model.OfferApproval.ApprovalStatus.PENDING then 1 else 0 end) as pending, " +
+            "max(a.requiredApprovals) as required " +
+            "from OfferApproval a where a.offer.id in :offerIds group by a.offer.id, a.approvalOrder")
+    List<StageCounts> countStagesByOfferIds(@Param("offerIds") Collection<Long> offerIds);
+
+    // Every pending step at the lowest pending order of each offer
+    @Query("select a from OfferApproval a where a.offer.id in :offerIds " +
+            "and a.status = com.screening.interviews.model.OfferApproval.ApprovalStatus.PENDING " +
+            "and a.approvalOrder = (select min(b.approvalOrder) from OfferApproval b where b.offer.id = a.offer.id " +
+            "and b.status = com.screening.interviews.model.OfferApproval.ApprovalStatus.PENDING) " +
+            "order by a.offer.id, a.id")
+    List<OfferApproval> findCurrentStageByOfferIds(@Param("offerIds") Collection<Long> offerIds);
+
+    @Query("select a.offer.id as offerId, count(a) as total, " +
+            "sum(case when a.status = com.screening.interviews.model.OfferApproval.ApprovalStatus.PENDING then 1 else 0 end) as pending, " +
+            "min(case when a.status = com.screening.interviews.model.OfferApproval.ApprovalStatus.PENDING then a.approvalOrder end) as currentOrder " +
+            "from OfferApproval a where a.offer.id in :offerIds group by a.offer.id")
+    List<ApprovalCounts> countApprovalsByOfferIds(@Param("offerIds") Collection<Long> offerIds);
+
+    @Query("select a.approverId as approverId, count(a) as count from OfferApproval a " +
+            "where a.status = com.screening.interviews.model.OfferApproval.ApprovalStatus.PENDING group by a.approverId")
+    List<ApproverPendingCount> countPendingByApprover();
+
+    // Inbox rows in one join; the offer fields come from columns materialized at write time
+    String DETAIL_SELECT = "select a.id as approvalId, o.id as offerId, a.approverId as approverId, " +
+            "a.approverRole as approverRole, a.approvalOrder as approvalOrder, a.comment as comment, " +
+            "o.createdAt as createdAt, o.candidateId as candidateId, o.createdBy as createdBy, " +
+            "o.status as offerStatus, o.candidateName as candidateName, o.position as position, " +
+            "o.salary as salary, o.contentExtracted as contentExtracted " +
+            "from OfferApproval a join a.offer o ";
+
+    @Query(DETAIL_SELECT + "where a.approverId = :approverId and a.status = :status order by a.id")
+    List<PendingApprovalRow> findDetailRowsByApproverIdAndStatus(@Param("approverId") Long approverId,
+                                                                 @Param("status") OfferApproval.ApprovalStatus status);
+
+    @Query(DETAIL_SELECT + "where a.id = :approvalId")
+    Optional<PendingApprovalRow> findDetailRowById(@Param("approvalId") Long approvalId);
+
+    interface PendingApprovalRow {
+        Long getApprovalId();
+        Long getOfferId();
+        Long getApproverId();
+        String getApproverRole();
+        Integer getApprovalOrder();
+        String getComment();
+        LocalDateTime getCreatedAt();
+        Long getCandidateId();
+        Long getCreatedBy();
+        OfferLetter.OfferStatus getOfferStatus();
+        String getCandidateName();
+        String getPosition();
+        String getSalary();
+        Boolean getContentExtracted();
+    }
+
+    interface ActiveApprovalRow {
+        Long getApprovalId();
+        LocalDateTime getActivatedAt();
+    }
+
+    interface StageCounts {
+        Long getOfferId();
+        Integer getApprovalOrder();
+        Long getTotal();
+        Long getSatisfied();
+        Long getPending();
+        Integer getRequired();
+    }
+
+    interface ApproverPendingCount {
+        Long getApproverId();
+        Long getCount();
+    }
+
+    interface ApprovalCounts {
+        Long getOfferId();
+        Long getTotal();
+        Long getPending();
+        Integer getCurrentOrder();
+    }
+}
@@ -1,13 +1,172 @@
 package com.screening.interviews.repo;
 
+import com.screening.interviews.dto.OfferSummaryDTO;
 import com.screening.interviews.model.OfferLetter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OfferLetterRepository extends JpaRepository<OfferLetter, Long> {
     List<OfferLetter> findByStatus(OfferLetter.OfferStatus status);
     List<OfferLetter> findByCreatedBy(Long createdById);
+
+    // List screens read summaries straight from the row; offerContent is never selected
+    String SUMMARY_SELECT = "select new com.screening.interviews.dto.OfferSummaryDTO(o.id, o.candidateId, " +
+            "o.status, o.createdBy, o.createdAt, o.pendingApprovals, o.totalApprovals, " +
+            "o.candidateName, o.position, o.salary) from OfferLetter o ";
+
+    @Query(SUMMARY_SELECT + "order by o.id")
+    List<OfferSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "where o.status = :status order by o.id")
+    List<OfferSummaryDTO> findSummariesByStatus(@Param("status") OfferLetter.OfferStatus status);
+
+    @Query(SUMMARY_SELECT + "where o.createdBy = :createdBy order by o.id")
+    List<OfferSummaryDTO> findSummariesByCreatedBy(@Param("createdBy") Long createdById);
+
+    // Server-side cursor for exports: rows are pulled from the driver in fetch-size chunks
+    // and never dirty-checked, so callers must consume it inside a read-only transaction.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select o from OfferLetter o order by o.id")
+    Stream<OfferLetter> streamAllOrderById();
+
+    @Query("select o.id as id, o.status as status, o.totalApprovals as totalApprovals, " +
+            "o.pendingApprovals as pendingApprovals, o.currentApprovalOrder as currentApprovalOrder " +
+            "from OfferLetter o where o.id > :afterId order by o.id")
+    List<ApprovalCounterState> findApprovalCounterStates(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update OfferLetter o set o.totalApprovals = :total, o.pendingApprovals = :pending, " +
+            "o.currentApprovalOrder = :currentOrder, o.version = o.version + 1 where o.id = :id")
+    int repairApprovalCounters(@Param("id") Long id,
+                               @Param("total") Integer total,
+                               @Param("pending") Integer pending,
+                               @Param("currentOrder") Integer currentOrder);
+
+    @Query("select o.status as status, o.createdBy as createdBy, count(o) as count " +
+            "from OfferLetter o group by o.status, o.createdBy")
+    List<StatusCreatorCount> countByStatusAndCreator();
+
+    @Query("select o.id as id, o.offerContent as offerContent from OfferLetter o " +
+            "where o.contentExtracted = false and o.id > :afterId order by o.id")
+    List<UnextractedContent> findUnextractedContent(@Param("afterId") Long afterId, Pageable pageable);
+
+    // A backfill is not an edit, so updatedAt stays; the version still moves so list stamps and ETags change
+    @Modifying
+    @Query("update OfferLetter o set o.candidateName = :candidateName, o.position = :position, " +
+            "o.salary = :salary, o.salaryAmount = :salaryAmount, o.contentExtracted = true, " +
+            "o.version = o.version + 1 where o.id = :id")
+    int updateExtractedContent(@Param("id") Long id,
+                               @Param("candidateName") String candidateName,
+                               @Param("position") String position,
+                               @Param("salary") String salary,
+                               @Param("salaryAmount") Long salaryAmount);
+
+    // Search queries rely on the expression indexes created in V3__offer_search_columns.sql.
+    // Both return a Slice so no COUNT(*) runs over the matching rows.
+    String SEARCH_COLUMNS = "o.id as \"id\", o.candidate_id as \"candidateId\", o.status as \"status\", " +
+            "o.created_by as \"createdBy\", o.created_at as \"createdAt\", " +
+            "o.total_approvals as \"totalApprovals\", o.pending_approvals as \"pendingApprovals\", " +
+            "o.candidate_name as \"candidateName\", o.position as \"position\", o.salary as \"salary\" ";
+    String SEARCH_FILTERS = "and (cast(:status as varchar) is null or o.status = cast(:status as varchar)) " +
+            "and (cast(:createdBy as bigint) is null or o.created_by = cast(:createdBy as bigint)) " +
+            "and (cast(:minSalary as bigint) is null or o.salary_amount >= cast(:minSalary as bigint)) " +
+            "and (cast(:maxSalary as bigint) is null or o.salary_amount <= cast(:maxSalary as bigint)) ";
+
+    @Query(nativeQuery = true, value = "select " + SEARCH_COLUMNS + "from offer_letters o " +
+            "where (lower(o.candidate_name) like :prefix escape '\\' or lower(o.position) like :prefix escape '\\') " +
+            SEARCH_FILTERS + "order by o.id desc")
+    Slice<OfferSearchRow> searchByPrefix(@Param("prefix") String prefix,
+                                         @Param("status") String status,
+                                         @Param("createdBy") Long createdBy,
+                                         @Param("minSalary") Long minSalary,
+                                         @Param("maxSalary") Long maxSalary,
+                                         Pageable pageable);
+
+    @Query(nativeQuery = true, value = "select " + SEARCH_COLUMNS + "from offer_letters o " +
+            "where to_tsvector('simple', coalesce(o.candidate_name, '') || ' ' || coalesce(o.position, '')) " +
+            "@@ plainto_tsquery('simple', :query) " +
+            SEARCH_FILTERS + "order by o.id desc")
+    Slice<OfferSearchRow> searchFullText(@Param("query") String query,
+                                         @Param("status") String status,
+                                         @Param("createdBy") Long createdBy,
+                                         @Param("minSalary") Long minSalary,
+                                         @Param("maxSalary") Long maxSalary,
+                                         Pageable pageable);
+
+    // Version-only lookups for conditional GETs; none of them load offer content
+    @Query("select o.version as version, o.updatedAt as updatedAt from OfferLetter o where o.id = :id")
+    Optional<VersionStamp> findVersionStampById(@Param("id") Long id);
+
+    @Query("select count(o) as count, max(o.updatedAt) as updatedAt, coalesce(sum(o.version), 0) as version " +
+            "from OfferLetter o")
+    ListStamp findListStamp();
+
+    @Query("select count(o) as count, max(o.updatedAt) as updatedAt, coalesce(sum(o.version), 0) as version " +
+            "from OfferLetter o where o.status = :status")
+    ListStamp findListStampByStatus(@Param("status") OfferLetter.OfferStatus status);
+
+    @Query("select count(o) as count, max(o.updatedAt) as updatedAt, coalesce(sum(o.version), 0) as version " +
+            "from OfferLetter o where o.createdBy = :createdBy")
+    ListStamp findListStampByCreatedBy(@Param("createdBy") Long createdBy);
+
+    interface VersionStamp {
+        Long getVersion();
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface ListStamp {
+        Long getCount();
+        LocalDateTime getUpdatedAt();
+        Long getVersion();
+    }
+
+    interface OfferSearchRow {
+        Long getId();
+        Long getCandidateId();
+        String getStatus();
+        Long getCreatedBy();
+        LocalDateTime getCreatedAt();
+        Integer getTotalApprovals();
+        Integer getPendingApprovals();
+        String getCandidateName();
+        String getPosition();
+        String getSalary();
+    }
+
+    interface StatusCreatorCount {
+        OfferLetter.OfferStatus getStatus();
+        Long getCreatedBy();
+        Long getCount();
+    }
+
+    interface UnextractedContent {
+        Long getId();
+        String getOfferContent();
+    }
+
+    interface ApprovalCounterState {
+        Long getId();
+        OfferLetter.OfferStatus getStatus();
+        Integer getTotalApprovals();
+        Integer getPendingApprovals();
+        Integer getCurrentApprovalOrder();
+    }
 }
@@ -1,17 +1,77 @@
 package com.screening.interviews.repo;
 
+import com.screening.interviews.dto.OfferTemplateSummaryDTO;
 import com.screening.interviews.model.*;
 import com.screening.interviews.model.OfferTemplate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OfferTemplateRepository extends JpaRepository<OfferTemplate, Long> {
+    String QUERY_CACHE_REGION = "offerTemplateQueries";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<OfferTemplate> findByIsActiveTrue();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<OfferTemplate> findByCategoryAndIsActiveTrue(String category);
+
     List<OfferTemplate> findByCreatedByAndIsActiveTrue(Long createdById);
     List<OfferTemplate> findByCategory(String category);
-}
\ No newline at end of file
+
+    // Projections for list screens: templateContent is never selected
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("select new com.screening.interviews.dto.OfferTemplateSummaryDTO(t.id, t.name, t.description, t.category, " +
+            "t.createdBy, t.isActive, t.createdAt, t.updatedAt) from OfferTemplate t where t.isActive = true order by t.name")
+    List<OfferTemplateSummaryDTO> findActiveSummaries();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("select new com.screening.interviews.dto.OfferTemplateSummaryDTO(t.id, t.name, t.description, t.category, " +
+            "t.createdBy, t.isActive, t.createdAt, t.updatedAt) from OfferTemplate t " +
+            "where t.category = :category and t.isActive = true order by t.name")
+    List<OfferTemplateSummaryDTO> findActiveSummariesByCategory(@Param("category") String category);
+
+    @Query("select new com.screening.interviews.dto.OfferTemplateSummaryDTO(t.id, t.name, t.description, t.category, " +
+            "t.createdBy, t.isActive, t.createdAt, t.updatedAt) from OfferTemplate t " +
+            "where t.createdBy = :createdBy and t.isActive = true order by t.name")
+    List<OfferTemplateSummaryDTO> findActiveSummariesByCreatedBy(@Param("createdBy") Long createdById);
+
+    // List stamps for conditional GETs. Deactivation bumps updatedAt and drops the count,
+    // so both moves are visible.
+    @Query("select count(t) as count, max(t.updatedAt) as updatedAt from OfferTemplate t where t.isActive = true")
+    ListStamp findActiveListStamp();
+
+    @Query("select count(t) as count, max(t.updatedAt) as updatedAt from OfferTemplate t " +
+            "where t.category = :category and t.isActive = true")
+    ListStamp findActiveListStampByCategory(@Param("category") String category);
+
+    @Query("select count(t) as count, max(t.updatedAt) as updatedAt from OfferTemplate t " +
+            "where t.createdBy = :createdBy and t.isActive = true")
+    ListStamp findActiveListStampByCreatedBy(@Param("createdBy") Long createdById);
+
+    interface ListStamp {
+        Long getCount();
+        LocalDateTime getUpdatedAt();
+    }
+}
@@ -2,8 +2,11 @@ package com.screening.interviews.repo;
 
 import com.screening.interviews.model.Signature;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +14,18 @@ import java.util.Optional;
 public interface SignatureRepository extends JpaRepository<Signature, Long> {
     Optional<Signature> findByOfferId(Long offerId);
     List<Signature> findByCandidateId(Long candidateId);
+    long countBySignedAtGreaterThanEqual(LocalDateTime since);
+
+    // Signature metadata without the signatureData payload
+    @Query("select s.id as id, s.candidateId as candidateId, s.signatureType as signatureType, " +
+            "s.signedAt as signedAt, s.docHash as docHash from Signature s where s.offer.id = :offerId")
+    Optional<SignatureSummary> findSummaryByOfferId(@Param("offerId") Long offerId);
+
+    interface SignatureSummary {
+        Long getId();
+        Long getCandidateId();
+        Signature.OfferSignatureType getSignatureType();
+        LocalDateTime getSignedAt();
+        String getDocHash();
+    }
 }
@@ -0,0 +1,20 @@
+package com.screening.interviews.repo;
+
+import com.screening.interviews.model.SigningAttempt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface SigningAttemptRepository extends JpaRepository<SigningAttempt, Long> {
+    Optional<SigningAttempt> findByOfferIdAndIdempotencyKey(Long offerId, String idempotencyKey);
+
+    @Modifying
+    @Query("delete from SigningAttempt a where a.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
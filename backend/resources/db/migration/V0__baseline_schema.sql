@@ -0,0 +1,50 @@
+-- Schema as it stood before versioned migrations, so a fresh database can run the whole chain.
+-- Existing databases already have these tables: they are baselined at version 0 (see
+-- FlywayConfig), which skips this script and still applies V1 onwards.
+
+CREATE TABLE IF NOT EXISTS offer_letters (
+    id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    candidate_id    bigint NOT NULL,
+    created_by      bigint NOT NULL,
+    status          varchar(255) NOT NULL,
+    offer_content   text,
+    signed_pdf_url  varchar(255),
+    created_at      timestamp,
+    updated_at      timestamp
+);
+
+CREATE TABLE IF NOT EXISTS offer_approvals (
+    id               bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    offer_id         bigint NOT NULL REFERENCES offer_letters (id),
+    approver_id      bigint NOT NULL,
+    approver_role    varchar(255) NOT NULL,
+    approval_order   integer NOT NULL,
+    status           varchar(255) NOT NULL,
+    comment          text,
+    action_timestamp timestamp
+);
+
+CREATE TABLE IF NOT EXISTS signatures (
+    id                bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    offer_id          bigint NOT NULL REFERENCES offer_letters (id),
+    candidate_id      bigint NOT NULL,
+    signature_type    varchar(255) NOT NULL,
+    signature_data    text,
+    consent_text      text,
+    signed_at         timestamp,
+    signer_ip         varchar(255),
+    signer_user_agent varchar(255),
+    doc_hash          varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS offer_templates (
+    id               bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name             varchar(255) NOT NULL,
+    description      text,
+    template_content text NOT NULL,
+    category         varchar(255) NOT NULL,
+    created_by       bigint NOT NULL,
+    is_active        boolean NOT NULL,
+    created_at       timestamp,
+    updated_at       timestamp
+);
@@ -0,0 +1,2 @@
+-- Template category of offers created from a template (see ApprovalRoutingEngine).
+ALTER TABLE offer_letters ADD COLUMN IF NOT EXISTS template_category varchar(255);
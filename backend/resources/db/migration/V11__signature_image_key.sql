@@ -0,0 +1,3 @@
+-- Drawn signatures are stored as normalized PNGs in object storage (see SignatureImageStore).
+-- Older rows keep their base64 in signature_data until the image is first requested.
+ALTER TABLE signatures ADD COLUMN IF NOT EXISTS signature_image_key varchar(255);
@@ -0,0 +1,17 @@
+-- Idempotency records for offer signing (see SigningIdempotencyGuard).
+CREATE SEQUENCE IF NOT EXISTS signing_attempts_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS signing_attempts (
+    id              bigint PRIMARY KEY,
+    offer_id        bigint NOT NULL,
+    idempotency_key varchar(255) NOT NULL,
+    request_hash    varchar(255) NOT NULL,
+    status          varchar(255) NOT NULL,
+    signature_id    bigint,
+    last_error      text,
+    started_at      timestamp,
+    completed_at    timestamp,
+    created_at      timestamp,
+    version         bigint NOT NULL DEFAULT 0,
+    CONSTRAINT uk_signing_attempts_offer_key UNIQUE (offer_id, idempotency_key)
+);
@@ -0,0 +1,20 @@
+-- Denormalized approval-chain state on offers (see ApprovalWorkflowStateMachine), backfilled
+-- from the approval rows. Must precede V7, which joins on current_approval_order.
+ALTER TABLE offer_letters ADD COLUMN IF NOT EXISTS total_approvals integer NOT NULL DEFAULT 0;
+ALTER TABLE offer_letters ADD COLUMN IF NOT EXISTS pending_approvals integer NOT NULL DEFAULT 0;
+ALTER TABLE offer_letters ADD COLUMN IF NOT EXISTS current_approval_order integer;
+
+UPDATE offer_letters o SET
+    total_approvals = c.total,
+    pending_approvals = c.pending,
+    -- Only an offer still in approval has a current stage
+    current_approval_order = CASE WHEN o.status = 'PENDING_APPROVAL' THEN c.current_order END
+FROM (
+    SELECT offer_id,
+           count(*) AS total,
+           count(*) FILTER (WHERE status = 'PENDING') AS pending,
+           min(approval_order) FILTER (WHERE status = 'PENDING') AS current_order
+    FROM offer_approvals
+    GROUP BY offer_id
+) c
+WHERE c.offer_id = o.id;
@@ -0,0 +1,40 @@
+-- Indexes backing the repository finders. Each comment names the queries the index serves.
+-- Column names follow Hibernate's default physical naming (camelCase -> snake_case).
+
+-- OfferLetterRepository.findByStatus
+CREATE INDEX IF NOT EXISTS idx_offer_letters_status
+    ON offer_letters (status);
+
+-- OfferLetterRepository.findByCreatedBy
+CREATE INDEX IF NOT EXISTS idx_offer_letters_created_by
+    ON offer_letters (created_by);
+
+-- OfferApprovalRepository.findByApproverIdAndStatus (approval inbox)
+CREATE INDEX IF NOT EXISTS idx_offer_approvals_approver_status
+    ON offer_approvals (approver_id, status);
+
+-- OfferApprovalRepository.findByOfferIdAndStatus,
+-- findFirstByOfferIdAndStatusOrderByApprovalOrder (next step lookup),
+-- findByOfferIdAndApproverIdAndStatus (leading offer_id, status prefix)
+CREATE INDEX IF NOT EXISTS idx_offer_approvals_offer_status_order
+    ON offer_approvals (offer_id, status, approval_order);
+
+-- OfferApprovalRepository.findByOfferIdOrderByApprovalOrder, countApprovalsByOfferIds
+CREATE INDEX IF NOT EXISTS idx_offer_approvals_offer_order
+    ON offer_approvals (offer_id, approval_order);
+
+-- SignatureRepository.findByOfferId
+CREATE INDEX IF NOT EXISTS idx_signatures_offer
+    ON signatures (offer_id);
+
+-- SignatureRepository.findByCandidateId
+CREATE INDEX IF NOT EXISTS idx_signatures_candidate
+    ON signatures (candidate_id);
+
+-- OfferTemplateRepository.findByIsActiveTrue, findByCategoryAndIsActiveTrue
+CREATE INDEX IF NOT EXISTS idx_offer_templates_active_category
+    ON offer_templates (is_active, category);
+
+-- OfferTemplateRepository.findByCreatedByAndIsActiveTrue
+CREATE INDEX IF NOT EXISTS idx_offer_templates_created_by_active
+    ON offer_templates (created_by, is_active);
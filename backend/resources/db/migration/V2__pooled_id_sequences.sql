@@ -0,0 +1,24 @@
+-- Move primary keys from IDENTITY columns to sequences consumed by Hibernate's pooled
+-- optimizer (allocationSize = 50), which lets inserts be JDBC-batched.
+-- Each sequence is positioned a full block past the current max id, so neither the
+-- pooled nor the pooled-lo interpretation of the next value can collide with existing rows.
+
+CREATE SEQUENCE IF NOT EXISTS offer_letters_seq INCREMENT BY 50;
+SELECT setval('offer_letters_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM offer_letters));
+ALTER TABLE offer_letters ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE offer_letters ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS offer_approvals_seq INCREMENT BY 50;
+SELECT setval('offer_approvals_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM offer_approvals));
+ALTER TABLE offer_approvals ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE offer_approvals ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS signatures_seq INCREMENT BY 50;
+SELECT setval('signatures_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM signatures));
+ALTER TABLE signatures ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE signatures ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS offer_templates_seq INCREMENT BY 50;
+SELECT setval('offer_templates_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM offer_templates));
+ALTER TABLE offer_templates ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE offer_templates ALTER COLUMN id DROP DEFAULT;
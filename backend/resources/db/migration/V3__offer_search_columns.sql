@@ -0,0 +1,25 @@
+-- Searchable fields extracted from offer_content (see OfferContentExtractor).
+-- Existing rows keep content_extracted = false until OfferContentBackfillJob fills them.
+ALTER TABLE offer_letters ADD COLUMN IF NOT EXISTS candidate_name varchar(255);
+ALTER TABLE offer_letters ADD COLUMN IF NOT EXISTS position varchar(255);
+ALTER TABLE offer_letters ADD COLUMN IF NOT EXISTS salary varchar(255);
+ALTER TABLE offer_letters ADD COLUMN IF NOT EXISTS salary_amount bigint;
+ALTER TABLE offer_letters ADD COLUMN IF NOT EXISTS content_extracted boolean NOT NULL DEFAULT false;
+
+-- OfferLetterRepository.searchByPrefix: lower(col) LIKE 'abc%'
+CREATE INDEX IF NOT EXISTS idx_offer_letters_candidate_name_prefix
+    ON offer_letters (lower(candidate_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_offer_letters_position_prefix
+    ON offer_letters (lower(position) text_pattern_ops);
+
+-- OfferLetterRepository.searchFullText; the expression must match the query text exactly
+CREATE INDEX IF NOT EXISTS idx_offer_letters_search_fts
+    ON offer_letters USING gin (to_tsvector('simple', coalesce(candidate_name, '') || ' ' || coalesce(position, '')));
+
+-- Salary band filters
+CREATE INDEX IF NOT EXISTS idx_offer_letters_salary_amount
+    ON offer_letters (salary_amount);
+
+-- OfferLetterRepository.findTop500ByContentExtractedFalseOrderById
+CREATE INDEX IF NOT EXISTS idx_offer_letters_content_pending
+    ON offer_letters (id) WHERE content_extracted = false;
@@ -0,0 +1,2 @@
+-- Optimistic-lock version for offers; also the basis of the offer and approval-list ETags.
+ALTER TABLE offer_letters ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- Optimistic-lock version for approval steps (see OptimisticLockRetry).
+ALTER TABLE offer_approvals ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- Quorum for parallel approval stages (steps sharing approval_order); null means all steps.
+ALTER TABLE offer_approvals ADD COLUMN IF NOT EXISTS required_approvals integer;
@@ -0,0 +1,8 @@
+-- SLA clock start for approval steps (see ApprovalSlaScheduler).
+ALTER TABLE offer_approvals ADD COLUMN IF NOT EXISTS activated_at timestamp;
+
+-- Steps of stages that are already current start their clock now
+UPDATE offer_approvals a SET activated_at = now()
+FROM offer_letters o
+WHERE a.offer_id = o.id AND a.status = 'PENDING' AND o.status = 'PENDING_APPROVAL'
+  AND a.approval_order = o.current_approval_order AND a.activated_at IS NULL;
@@ -0,0 +1,17 @@
+-- Transactional outbox for notifications (see NotificationOutboxDispatcher).
+CREATE SEQUENCE IF NOT EXISTS notification_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id              bigint PRIMARY KEY,
+    type            varchar(255) NOT NULL,
+    aggregate_id    bigint NOT NULL,
+    status          varchar(255) NOT NULL,
+    attempts        integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamp NOT NULL,
+    last_error      text,
+    created_at      timestamp,
+    sent_at         timestamp
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_status_next
+    ON notification_outbox (status, next_attempt_at);
@@ -0,0 +1,5 @@
+-- Approver of an APPROVAL_REQUEST row; pending rows of one recipient are sent as a digest.
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS recipient_id bigint;
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_recipient
+    ON notification_outbox (recipient_id, status);
@@ -0,0 +1,127 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.model.OfferLetter;
+import com.screening.interviews.repo.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Walks every offer in id order and compares the denormalized approval counters on
+ * {@code offer_letters} with the real {@code offer_approvals} rows, fixing any drift
+ * (failed transactions, manual SQL, rows written before the columns existed). Closed offers
+ * still show their counters in lists, so they are covered too: their pending count is zero and
+ * they have no current stage, whatever steps were left open when approval ended.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalCounterRepairJob {
+
+    private final OfferLetterRepository offerLetterRepository;
+    private final OfferApprovalRepository offerApprovalRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.approvals.counter-repair.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${app.approvals.counter-repair.initial-delay-ms:60000}",
+            fixedDelayString = "${app.approvals.counter-repair.interval-ms:3600000}")
+    public void repairAll() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        // Counters and approval rows are read from one snapshot, so a workflow that commits
+        // mid-chunk makes the repair update fail instead of overwriting newer values.
+        tx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        long afterId = 0;
+        int repaired = 0;
+        while (true) {
+            long from = afterId;
+            ChunkResult result;
+            try {
+                result = tx.execute(status -> repairChunk(from));
+            } catch (RuntimeException e) {
+                log.warn("Approval counter repair skipped chunk after offer {}: {}", from, e.getMessage());
+                result = skipChunk(from);
+            }
+            if (result == null || result.lastId() == null) {
+                break;
+            }
+            repaired += result.repaired();
+            afterId = result.lastId();
+        }
+
+        if (repaired > 0) {
+            log.info("Approval counter repair fixed {} offers", repaired);
+        }
+    }
+
+    private ChunkResult repairChunk(long afterId) {
+        List<OfferLetterRepository.ApprovalCounterState> states =
+                offerLetterRepository.findApprovalCounterStates(afterId, PageRequest.of(0, chunkSize));
+        if (states.isEmpty()) {
+            return new ChunkResult(null, 0);
+        }
+
+        List<Long> offerIds = states.stream()
+                .map(OfferLetterRepository.ApprovalCounterState::getId)
+                .collect(Collectors.toList());
+        Map<Long, OfferApprovalRepository.ApprovalCounts> counts = offerApprovalRepository
+                .countApprovalsByOfferIds(offerIds)
+                .stream()
+                .collect(Collectors.toMap(OfferApprovalRepository.ApprovalCounts::getOfferId, Function.identity()));
+
+        int repaired = 0;
+        List<Long> stalled = new ArrayList<>();
+        for (OfferLetterRepository.ApprovalCounterState state : states) {
+            OfferApprovalRepository.ApprovalCounts actual = counts.get(state.getId());
+            boolean closed = ApprovalWorkflowStateMachine.isClosed(state.getStatus());
+            int total = actual != null ? actual.getTotal().intValue() : 0;
+            // Same rules as ApprovalWorkflowStateMachine: a closed offer has nothing pending,
+            // and no pending step means no current stage
+            int pending = !closed && actual != null ? actual.getPending().intValue() : 0;
+            Integer currentOrder = pending > 0 ? actual.getCurrentOrder() : null;
+            if (state.getStatus() == OfferLetter.OfferStatus.PENDING_APPROVAL && pending == 0) {
+                stalled.add(state.getId());
+            }
+
+            if (!Objects.equals(state.getTotalApprovals(), total)
+                    || !Objects.equals(state.getPendingApprovals(), pending)
+                    || !Objects.equals(state.getCurrentApprovalOrder(), currentOrder)) {
+                offerLetterRepository.repairApprovalCounters(state.getId(), total, pending, currentOrder);
+                repaired++;
+            }
+        }
+
+        // Still awaiting approval with nothing left to approve: the workflow never completed, and
+        // deciding between READY_FOR_SIGN and REJECTED needs the stage outcomes, so leave it to an admin
+        if (!stalled.isEmpty()) {
+            log.warn("Offers {} are PENDING_APPROVAL with no pending approval steps; their workflow needs review",
+                    stalled);
+        }
+
+        return new ChunkResult(states.get(states.size() - 1).getId(), repaired);
+    }
+
+    private ChunkResult skipChunk(long afterId) {
+        List<OfferLetterRepository.ApprovalCounterState> states =
+                offerLetterRepository.findApprovalCounterStates(afterId, PageRequest.of(0, chunkSize));
+        return new ChunkResult(states.isEmpty() ? null : states.get(states.size() - 1).getId(), 0);
+    }
+
+    private record ChunkResult(Long lastId, int repaired) {
+    }
+}
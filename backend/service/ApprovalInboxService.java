@@ -0,0 +1,203 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.dto.*;
+import com.screening.interviews.event.ApprovalReassignedEvent;
+import com.screening.interviews.event.ApprovalStatusChangedEvent;
+import com.screening.interviews.event.OfferContentBackfilledEvent;
+import com.screening.interviews.event.OfferStatusChangedEvent;
+import com.screening.interviews.model.*;
+import com.screening.interviews.repo.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Materialized pending-approval inboxes, one per recently active approver. An inbox is loaded
+ * from the database on first read and then kept current by committed approval and offer
+ * events, so polling the approvals page is a map lookup; an inbox holding offers the content
+ * backfill rewrote is reloaded instead. The least recently read inboxes are
+ * dropped once {@code app.approvals.inbox.max-approvers} is reached. Cached entries are shared
+ * with every reader, so they are replaced on change and never mutated in place.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApprovalInboxService {
+
+    private final OfferApprovalRepository offerApprovalRepository;
+
+    @Value("${app.approvals.inbox.max-approvers:10000}")
+    private int maxApprovers;
+
+    // Access-ordered, so iteration order is least recently read first
+    private final Map<Long, Inbox> inboxes = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Inbox> eldest) {
+            return size() > maxApprovers;
+        }
+    };
+
+    public List<PendingApprovalDetailDTO> getInbox(Long approverId) {
+        Inbox inbox;
+        synchronized (inboxes) {
+            inbox = inboxes.computeIfAbsent(approverId, id -> new Inbox());
+        }
+        synchronized (inbox) {
+            if (!inbox.loaded) {
+                offerApprovalRepository
+                        .findDetailRowsByApproverIdAndStatus(approverId, OfferApproval.ApprovalStatus.PENDING)
+                        .forEach(row -> inbox.entries.put(row.getApprovalId(), convertToDetailedDTO(row)));
+                inbox.loaded = true;
+            }
+            return new ArrayList<>(inbox.entries.values());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalStatusChanged(ApprovalStatusChangedEvent event) {
+        Inbox inbox = cached(event.getApproverId());
+        if (inbox == null) {
+            return;
+        }
+        synchronized (inbox) {
+            // Not loaded yet: the load runs after this commit and will read the row itself
+            if (!inbox.loaded) {
+                return;
+            }
+            if (event.getNewStatus() == OfferApproval.ApprovalStatus.PENDING) {
+                offerApprovalRepository.findDetailRowById(event.getApprovalId())
+                        .ifPresent(row -> inbox.entries.put(row.getApprovalId(), convertToDetailedDTO(row)));
+            } else {
+                inbox.entries.remove(event.getApprovalId());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalReassigned(ApprovalReassignedEvent event) {
+        Inbox previous = cached(event.getPreviousApproverId());
+        if (previous != null) {
+            synchronized (previous) {
+                previous.entries.remove(event.getApprovalId());
+            }
+        }
+        Inbox next = cached(event.getNewApproverId());
+        if (next != null) {
+            synchronized (next) {
+                if (next.loaded) {
+                    offerApprovalRepository.findDetailRowById(event.getApprovalId())
+                            .ifPresent(row -> next.entries.put(row.getApprovalId(), convertToDetailedDTO(row)));
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferStatusChanged(OfferStatusChangedEvent event) {
+        if (event.getPreviousStatus() == null) {
+            return; // a new offer has no approvals yet
+        }
+        List<Inbox> cached;
+        synchronized (inboxes) {
+            cached = new ArrayList<>(inboxes.values());
+        }
+        String offerStatus = event.getNewStatus().toString();
+        for (Inbox inbox : cached) {
+            synchronized (inbox) {
+                // Replace rather than mutate: lists already handed out by getInbox share the old entries
+                inbox.entries.replaceAll((approvalId, entry) -> event.getOfferId().equals(entry.getOfferId())
+                        ? withOfferStatus(entry, offerStatus)
+                        : entry);
+            }
+        }
+    }
+
+    // The backfill rewrote the extracted fields of these offers; inboxes holding any of them reload on next read
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferContentBackfilled(OfferContentBackfilledEvent event) {
+        List<Inbox> cached;
+        synchronized (inboxes) {
+            cached = new ArrayList<>(inboxes.values());
+        }
+        for (Inbox inbox : cached) {
+            synchronized (inbox) {
+                boolean affected = inbox.entries.values().stream()
+                        .anyMatch(entry -> event.getOfferIds().contains(entry.getOfferId()));
+                if (affected) {
+                    inbox.entries.clear();
+                    inbox.loaded = false;
+                }
+            }
+        }
+    }
+
+    private Inbox cached(Long approverId) {
+        synchronized (inboxes) {
+            return inboxes.get(approverId);
+        }
+    }
+
+    PendingApprovalDetailDTO convertToDetailedDTO(OfferApprovalRepository.PendingApprovalRow row) {
+        PendingApprovalDetailDTO dto = new PendingApprovalDetailDTO();
+        dto.setApprovalId(row.getApprovalId());
+        dto.setOfferId(row.getOfferId());
+        dto.setApproverId(row.getApproverId());
+        dto.setApproverRole(row.getApproverRole());
+        dto.setApprovalOrder(row.getApprovalOrder());
+        dto.setComment(row.getComment());
+        dto.setCreatedAt(row.getCreatedAt());
+
+        // Add offer details for context
+        dto.setCandidateId(row.getCandidateId());
+        dto.setCreatedBy(row.getCreatedBy());
+        dto.setOfferStatus(row.getOfferStatus().toString());
+
+        // Key details were extracted from the offer content when it was saved
+        dto.setCandidateName(row.getCandidateName());
+        dto.setPosition(row.getPosition());
+        dto.setSalary(row.getSalary());
+
+        if (Boolean.TRUE.equals(row.getContentExtracted())
+                && (row.getCandidateName() != null || row.getPosition() != null || row.getSalary() != null)) {
+            // Create summary
+            String summary = String.format("Position: %s | Salary: %s | Candidate: %s",
+                    dto.getPosition(), dto.getSalary(), dto.getCandidateName());
+            dto.setOfferSummary(summary);
+        } else {
+            dto.setOfferSummary("Offer details available in full content");
+        }
+
+        return dto;
+    }
+
+    private static PendingApprovalDetailDTO withOfferStatus(PendingApprovalDetailDTO entry, String offerStatus) {
+        PendingApprovalDetailDTO copy = new PendingApprovalDetailDTO();
+        copy.setApprovalId(entry.getApprovalId());
+        copy.setOfferId(entry.getOfferId());
+        copy.setApproverId(entry.getApproverId());
+        copy.setApproverRole(entry.getApproverRole());
+        copy.setApprovalOrder(entry.getApprovalOrder());
+        copy.setComment(entry.getComment());
+        copy.setCreatedAt(entry.getCreatedAt());
+        copy.setCandidateId(entry.getCandidateId());
+        copy.setCreatedBy(entry.getCreatedBy());
+        copy.setOfferStatus(offerStatus);
+        copy.setCandidateName(entry.getCandidateName());
+        copy.setPosition(entry.getPosition());
+        copy.setSalary(entry.getSalary());
+        copy.setOfferSummary(entry.getOfferSummary());
+        return copy;
+    }
+
+    // Entries are never modified once cached; updates swap in a new instance
+    private static final class Inbox {
+        boolean loaded;
+        final Map<Long, PendingApprovalDetailDTO> entries = new TreeMap<>(); // by approval id, like the query
+    }
+}
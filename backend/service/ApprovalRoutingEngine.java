@@ -0,0 +1,347 @@
+package com.screening.interviews.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.screening.interviews.dto.ApprovalRoutingRules;
+import com.screening.interviews.dto.ApprovalRoutingStatsDTO;
+import com.screening.interviews.dto.ApprovalWorkflowRequest;
+import com.screening.interviews.model.OfferLetter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Default approval routing: rules from {@code app.approvals.routing.rules-file} are compiled
+ * into a decision table and evaluated against the offer's salary, template category, creator
+ * role and the department and employment type in its content. The file is re-read when it
+ * changes; a file that fails to parse or validate leaves the previous table in place.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalRoutingEngine {
+
+    public record RoutingFacts(Long salaryAmount, String templateCategory, String creatorRole,
+                               String department, String employmentType) {
+    }
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.approvals.routing.rules-file:config/approval-routing.json}")
+    private String rulesFile;
+
+    private volatile DecisionTable table = DecisionTable.compile(List.of());
+    private volatile long loadedModifiedAt = Long.MIN_VALUE;
+    private volatile LocalDateTime loadedAt;
+    private volatile long compileMicros;
+    private volatile String lastError;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder evaluationNanos = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        reloadIfChanged();
+    }
+
+    @Scheduled(fixedDelayString = "${app.approvals.routing.reload-interval-ms:5000}")
+    public void reloadIfChanged() {
+        Path path = Paths.get(rulesFile);
+        try {
+            long modifiedAt = Files.exists(path) ? Files.getLastModifiedTime(path).toMillis() : -1;
+            if (modifiedAt != loadedModifiedAt) {
+                reload(path, modifiedAt);
+            }
+        } catch (IOException e) {
+            lastError = e.getMessage();
+            log.warn("Checking approval routing rules {} failed: {}", rulesFile, e.getMessage());
+        }
+    }
+
+    /** Forces a re-read of the rules file; returns false when it was rejected. */
+    public boolean reload() {
+        Path path = Paths.get(rulesFile);
+        try {
+            reload(path, Files.exists(path) ? Files.getLastModifiedTime(path).toMillis() : -1);
+            return lastError == null;
+        } catch (IOException e) {
+            lastError = e.getMessage();
+            return false;
+        }
+    }
+
+    public List<ApprovalWorkflowRequest.ApprovalStep> route(OfferLetter offer, String creatorRole) {
+        DecisionTable current = table;
+        JsonNode content = current.needsContent() ? parse(offer.getOfferContent()) : null;
+        return route(new RoutingFacts(offer.getSalaryAmount(), offer.getTemplateCategory(), creatorRole,
+                text(content, "department"), text(content, "employmentType")));
+    }
+
+    public List<ApprovalWorkflowRequest.ApprovalStep> route(RoutingFacts facts) {
+        long start = System.nanoTime();
+        List<ApprovalWorkflowRequest.ApprovalStep> steps = table.evaluate(facts);
+        evaluationNanos.add(System.nanoTime() - start);
+        evaluations.increment();
+        return steps;
+    }
+
+    public ApprovalRoutingStatsDTO getStats() {
+        DecisionTable current = table;
+        long count = evaluations.sum();
+        return new ApprovalRoutingStatsDTO(current.rules.size(), current.bands.length, compileMicros, loadedAt,
+                lastError, count, count > 0 ? (double) evaluationNanos.sum() / count : 0);
+    }
+
+    private synchronized void reload(Path path, long modifiedAt) throws IOException {
+        List<ApprovalRoutingRules.Rule> rules = List.of();
+        if (modifiedAt >= 0) {
+            ApprovalRoutingRules parsed;
+            try {
+                parsed = objectMapper.readValue(path.toFile(), ApprovalRoutingRules.class);
+            } catch (IOException e) {
+                rejected(modifiedAt, "Unreadable rules file: " + e.getMessage());
+                return;
+            }
+            rules = parsed.getRules() != null ? parsed.getRules() : List.of();
+        }
+        long start = System.nanoTime();
+        DecisionTable compiled;
+        try {
+            compiled = DecisionTable.compile(rules);
+        } catch (IllegalArgumentException e) {
+            rejected(modifiedAt, e.getMessage());
+            return;
+        }
+        compileMicros = (System.nanoTime() - start) / 1_000;
+        table = compiled;
+        loadedModifiedAt = modifiedAt;
+        loadedAt = LocalDateTime.now();
+        lastError = null;
+        log.info("Loaded {} approval routing rules from {} in {} us", compiled.rules.size(), rulesFile, compileMicros);
+    }
+
+    private void rejected(long modifiedAt, String error) {
+        loadedModifiedAt = modifiedAt; // don't retry the same broken file every interval
+        lastError = error;
+        log.warn("Approval routing rules {} rejected, keeping the previous rules: {}", rulesFile, error);
+    }
+
+    private JsonNode parse(String offerContent) {
+        if (offerContent == null || offerContent.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(offerContent);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String text(JsonNode content, String field) {
+        if (content == null || !content.isObject()) {
+            return null;
+        }
+        JsonNode value = content.get(field);
+        return value == null || value.isNull() || value.isContainerNode() ? null : value.asText();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Rules sorted by priority, one bit per rule. Each categorical attribute maps a value to the
+     * bitset of rules accepting it, with the unconstrained rules already OR-ed in; salary bounds
+     * cut the axis into elementary bands, each holding the rules that cover it. Evaluation is a
+     * binary search plus four map lookups and bitset ANDs, independent of how rules were written.
+     */
+    static final class DecisionTable {
+
+        private final List<ApprovalRoutingRules.Rule> rules;
+        private final long[] boundaries;  // sorted salary cut points
+        private final BitSet[] bands;     // bands[i] = [boundaries[i-1], boundaries[i])
+        private final BitSet noSalary;    // rules without salary bounds, for offers without a salary
+        private final Dimension category;
+        private final Dimension role;
+        private final Dimension department;
+        private final Dimension employmentType;
+
+        private DecisionTable(List<ApprovalRoutingRules.Rule> rules, long[] boundaries, BitSet[] bands,
+                              BitSet noSalary, Dimension category, Dimension role, Dimension department,
+                              Dimension employmentType) {
+            this.rules = rules;
+            this.boundaries = boundaries;
+            this.bands = bands;
+            this.noSalary = noSalary;
+            this.category = category;
+            this.role = role;
+            this.department = department;
+            this.employmentType = employmentType;
+        }
+
+        static DecisionTable compile(List<ApprovalRoutingRules.Rule> input) {
+            List<ApprovalRoutingRules.Rule> rules = new ArrayList<>(input);
+            rules.sort(Comparator.comparingInt(ApprovalRoutingRules.Rule::getPriority));
+            for (ApprovalRoutingRules.Rule rule : rules) {
+                validate(rule);
+            }
+
+            TreeSet<Long> cuts = new TreeSet<>();
+            BitSet noSalary = new BitSet(rules.size());
+            for (int i = 0; i < rules.size(); i++) {
+                ApprovalRoutingRules.Condition when = rules.get(i).getWhen();
+                Long min = when != null ? when.getMinSalary() : null;
+                Long max = when != null ? when.getMaxSalary() : null;
+                if (min != null) {
+                    cuts.add(min);
+                }
+                if (max != null) {
+                    cuts.add(max);
+                }
+                if (min == null && max == null) {
+                    noSalary.set(i);
+                }
+            }
+            long[] boundaries = cuts.stream().mapToLong(Long::longValue).toArray();
+            BitSet[] bands = new BitSet[boundaries.length + 1];
+            for (int band = 0; band < bands.length; band++) {
+                bands[band] = new BitSet(rules.size());
+            }
+            for (int i = 0; i < rules.size(); i++) {
+                ApprovalRoutingRules.Condition when = rules.get(i).getWhen();
+                Long min = when != null ? when.getMinSalary() : null;
+                Long max = when != null ? when.getMaxSalary() : null;
+                // Band b spans [boundaries[b-1], boundaries[b]); the rule covers the bands between its cuts
+                int from = min == null ? 0 : Arrays.binarySearch(boundaries, min) + 1;
+                int to = max == null ? bands.length : Arrays.binarySearch(boundaries, max) + 1;
+                for (int band = from; band < to; band++) {
+                    bands[band].set(i);
+                }
+            }
+
+            return new DecisionTable(rules, boundaries, bands, noSalary,
+                    Dimension.compile(rules, ApprovalRoutingRules.Condition::getTemplateCategories),
+                    Dimension.compile(rules, ApprovalRoutingRules.Condition::getCreatorRoles),
+                    Dimension.compile(rules, ApprovalRoutingRules.Condition::getDepartments),
+                    Dimension.compile(rules, ApprovalRoutingRules.Condition::getEmploymentTypes));
+        }
+
+        boolean needsContent() {
+            return department.constrained() || employmentType.constrained();
+        }
+
+        List<ApprovalWorkflowRequest.ApprovalStep> evaluate(RoutingFacts facts) {
+            if (rules.isEmpty()) {
+                return List.of();
+            }
+            BitSet matched = (BitSet) salaryBand(facts.salaryAmount()).clone();
+            matched.and(category.match(facts.templateCategory()));
+            matched.and(role.match(facts.creatorRole()));
+            matched.and(department.match(facts.department()));
+            matched.and(employmentType.match(facts.employmentType()));
+
+            List<ApprovalWorkflowRequest.ApprovalStep> steps = new ArrayList<>();
+            Set<Long> approvers = new HashSet<>();
+            for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                ApprovalRoutingRules.Rule rule = rules.get(i);
+                for (ApprovalWorkflowRequest.ApprovalStep step : rule.getSteps()) {
+                    if (approvers.add(step.getApproverId())) {
+                        steps.add(new ApprovalWorkflowRequest.ApprovalStep(step.getApproverId(),
+                                step.getApproverRole(), step.getOrder(), step.getQuorum()));
+                    }
+                }
+                if (rule.isStop()) {
+                    break;
+                }
+            }
+            return steps;
+        }
+
+        private BitSet salaryBand(Long salary) {
+            if (salary == null) {
+                return noSalary;
+            }
+            int index = Arrays.binarySearch(boundaries, salary);
+            return bands[index >= 0 ? index + 1 : -index - 1];
+        }
+
+        private static void validate(ApprovalRoutingRules.Rule rule) {
+            String name = rule.getName() != null ? rule.getName() : "(unnamed)";
+            if (rule.getSteps() == null || rule.getSteps().isEmpty()) {
+                throw new IllegalArgumentException("Rule " + name + " has no steps");
+            }
+            for (ApprovalWorkflowRequest.ApprovalStep step : rule.getSteps()) {
+                if (step.getApproverId() == null || step.getOrder() == null) {
+                    throw new IllegalArgumentException("Rule " + name + " has a step without approverId or order");
+                }
+            }
+            ApprovalRoutingRules.Condition when = rule.getWhen();
+            if (when != null && when.getMinSalary() != null && when.getMaxSalary() != null
+                    && when.getMinSalary() >= when.getMaxSalary()) {
+                throw new IllegalArgumentException("Rule " + name + " has an empty salary band");
+            }
+        }
+    }
+
+    private static final class Dimension {
+
+        private final Map<String, BitSet> byValue; // accepting rules, unconstrained ones included
+        private final BitSet unconstrained;
+
+        private Dimension(Map<String, BitSet> byValue, BitSet unconstrained) {
+            this.byValue = byValue;
+            this.unconstrained = unconstrained;
+        }
+
+        static Dimension compile(List<ApprovalRoutingRules.Rule> rules,
+                                 Function<ApprovalRoutingRules.Condition, List<String>> attribute) {
+            Map<String, BitSet> byValue = new HashMap<>();
+            BitSet unconstrained = new BitSet(rules.size());
+            for (int i = 0; i < rules.size(); i++) {
+                ApprovalRoutingRules.Condition when = rules.get(i).getWhen();
+                List<String> values = when != null ? attribute.apply(when) : null;
+                if (values == null || values.isEmpty()) {
+                    unconstrained.set(i);
+                    continue;
+                }
+                for (String value : values) {
+                    byValue.computeIfAbsent(normalize(value), k -> new BitSet(rules.size())).set(i);
+                }
+            }
+            byValue.values().forEach(bits -> bits.or(unconstrained));
+            return new Dimension(byValue, unconstrained);
+        }
+
+        boolean constrained() {
+            return !byValue.isEmpty();
+        }
+
+        BitSet match(String value) {
+            if (value == null) {
+                return unconstrained;
+            }
+            return byValue.getOrDefault(normalize(value), unconstrained);
+        }
+    }
+}
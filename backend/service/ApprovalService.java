@@ -2,17 +2,28 @@ package com.screening.interviews.service;
 
 
 import com.screening.interviews.dto.*;
+import com.screening.interviews.event.OfferEventPublisher;
 import com.screening.interviews.model.*;
 import com.screening.interviews.repo.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,14 +31,38 @@ import java.util.stream.Collectors;
 @Transactional
 public class ApprovalService {
 
+    // fields= names exposed by the approval endpoints, mapped to entity attributes
+    private static final Map<String, String> APPROVAL_FIELDS = Map.of(
+            "id", "id",
+            "offerId", "offer.id",
+            "approverId", "approverId",
+            "approverRole", "approverRole",
+            "approvalOrder", "approvalOrder",
+            "status", "status",
+            "comment", "comment",
+            "actionTimestamp", "actionTimestamp",
+            "activatedAt", "activatedAt");
+
     private final OfferApprovalRepository offerApprovalRepository;
     private final OfferLetterRepository offerLetterRepository;
-    private final NotificationService notificationService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
-    public void initializeDefaultApprovalWorkflow(OfferLetter offer) {
-        // Default approval chain can be configured here
-        // For now, let's use a simple workflow that requires manual setup
+    private final NotificationOutbox notificationOutbox;
+    private final OfferEventPublisher offerEventPublisher;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final ApprovalWorkflowStateMachine workflowStateMachine;
+    private final ApprovalInboxService approvalInboxService;
+    private final ApprovalRoutingEngine approvalRoutingEngine;
+    private final EntityManager entityManager;
+
+    @Value("${app.approvals.bulk.max-items:500}")
+    private int maxBulkItems;
+
+    // Routes by the configured rules; when none match, the chain is left for manual setup as before
+    public void initializeDefaultApprovalWorkflow(OfferLetter offer, String creatorRole) {
+        List<ApprovalWorkflowRequest.ApprovalStep> steps = approvalRoutingEngine.route(offer, creatorRole);
+        if (!steps.isEmpty()) {
+            initializeCustomApprovalWorkflow(offer, steps);
+        }
     }
 
     public void initializeCustomApprovalWorkflow(OfferLetter offer, List<ApprovalWorkflowRequest.ApprovalStep> steps) {
@@ -37,16 +72,28 @@ public class ApprovalService {
             approval.setApproverId(step.getApproverId());
             approval.setApproverRole(step.getApproverRole());
             approval.setApprovalOrder(step.getOrder());
+            approval.setRequiredApprovals(parseQuorum(step.getQuorum()));
             approval.setStatus(OfferApproval.ApprovalStatus.PENDING);
 
             offerApprovalRepository.save(approval);
+            recordApprovalAdded(offer, step.getOrder());
+            offerEventPublisher.approvalStatusChanged(approval, null, null);
         }
 
-        // Notify first approver
-        notifyNextApprover(offer);
+        // Activate every approver of the first stage; recordApprovalAdded already made its order current
+        offerLetterRepository.saveAndFlush(offer);
+        activateStage(offerApprovalRepository.findCurrentStageByOfferIds(List.of(offer.getId())));
     }
 
+    // Approval actions run outside the class-level transaction: OptimisticLockRetry opens one per
+    // attempt, so a version conflict with a concurrent approver re-reads the offer and re-evaluates.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OfferApprovalDTO processApproval(Long approvalId, ApprovalActionRequest request, Long actorId, String actorRole) {
+        return optimisticLockRetry.execute("Approval " + approvalId,
+                () -> applyApproval(approvalId, request, actorId));
+    }
+
+    private OfferApprovalDTO applyApproval(Long approvalId, ApprovalActionRequest request, Long actorId) {
         OfferApproval approval = offerApprovalRepository.findById(approvalId)
                 .orElseThrow(() -> new RuntimeException("Approval not found"));
 
@@ -63,22 +110,181 @@ public class ApprovalService {
         approval.setActionTimestamp(LocalDateTime.now());
 
         approval = offerApprovalRepository.save(approval);
+        offerEventPublisher.approvalStatusChanged(approval, OfferApproval.ApprovalStatus.PENDING, actorId);
 
         // Check if workflow is complete
-        processWorkflowLogic(approval.getOffer());
+        processWorkflowLogic(approval.getOffer(), approval);
 
         return convertToDTO(approval);
     }
 
+    /**
+     * Applies one action to many approvals in a single transaction. Items are resolved and
+     * ownership-checked with one query, updated as a JDBC batch, and every affected offer's
+     * workflow is evaluated together. Invalid items are reported per item and do not fail
+     * the rest.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkApprovalResultDTO> processBulkApproval(BulkApprovalActionRequest request, Long actorId) {
+        if (request.getAction() == null || request.getAction() == OfferApproval.ApprovalStatus.PENDING) {
+            throw new RuntimeException("Bulk action must be APPROVED, REJECTED or SKIPPED");
+        }
+        int items = (request.getApprovalIds() != null ? request.getApprovalIds().size() : 0)
+                + (request.getOfferIds() != null ? request.getOfferIds().size() : 0);
+        if (items == 0) {
+            throw new RuntimeException("At least one approval or offer id is required");
+        }
+        if (items > maxBulkItems) {
+            throw new RuntimeException("At most " + maxBulkItems + " items can be processed per request");
+        }
+        return optimisticLockRetry.execute("Bulk approval by " + actorId,
+                () -> applyBulkApproval(request, actorId));
+    }
+
+    private List<BulkApprovalResultDTO> applyBulkApproval(BulkApprovalActionRequest request, Long actorId) {
+        List<BulkApprovalResultDTO> results = new ArrayList<>();
+        Map<Long, OfferApproval> accepted = new LinkedHashMap<>();
+        Map<Long, BulkApprovalResultDTO> acceptedResults = new LinkedHashMap<>();
+
+        if (request.getApprovalIds() != null && !request.getApprovalIds().isEmpty()) {
+            Set<Long> ids = new LinkedHashSet<>(request.getApprovalIds());
+            Map<Long, OfferApproval> found = offerApprovalRepository.findAllWithOfferByIdIn(ids).stream()
+                    .collect(Collectors.toMap(OfferApproval::getId, Function.identity()));
+            for (Long id : ids) {
+                OfferApproval approval = found.get(id);
+                BulkApprovalResultDTO result = new BulkApprovalResultDTO();
+                result.setApprovalId(id);
+                results.add(result);
+                if (approval == null) {
+                    result.setError("Approval not found");
+                } else if (!approval.getApproverId().equals(actorId)) {
+                    result.setOfferId(approval.getOffer().getId());
+                    result.setError("User not authorized to approve this offer");
+                } else if (approval.getStatus() != OfferApproval.ApprovalStatus.PENDING) {
+                    result.setOfferId(approval.getOffer().getId());
+                    result.setError("Approval already processed");
+                } else {
+                    result.setOfferId(approval.getOffer().getId());
+                    accepted.put(id, approval);
+                    acceptedResults.put(id, result);
+                }
+            }
+        }
+
+        if (request.getOfferIds() != null && !request.getOfferIds().isEmpty()) {
+            Set<Long> offerIds = new LinkedHashSet<>(request.getOfferIds());
+            Map<Long, List<OfferApproval>> pendingByOffer = offerApprovalRepository
+                    .findWithOfferByOfferIdInAndApproverIdAndStatus(offerIds, actorId, OfferApproval.ApprovalStatus.PENDING)
+                    .stream()
+                    .collect(Collectors.groupingBy(a -> a.getOffer().getId()));
+            for (Long offerId : offerIds) {
+                List<OfferApproval> pending = pendingByOffer.get(offerId);
+                BulkApprovalResultDTO result = new BulkApprovalResultDTO();
+                result.setOfferId(offerId);
+                results.add(result);
+                if (pending == null) {
+                    result.setError("No pending approval found for user " + actorId + " on offer " + offerId);
+                } else if (pending.size() > 1) {
+                    result.setError("Multiple pending approvals found - please use specific approval ID");
+                } else if (accepted.containsKey(pending.get(0).getId())) {
+                    result.setApprovalId(pending.get(0).getId());
+                    result.setError("Approval listed more than once");
+                } else {
+                    result.setApprovalId(pending.get(0).getId());
+                    accepted.put(pending.get(0).getId(), pending.get(0));
+                    acceptedResults.put(pending.get(0).getId(), result);
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (OfferApproval approval : accepted.values()) {
+            approval.setStatus(request.getAction());
+            approval.setComment(request.getComment());
+            approval.setActionTimestamp(now);
+            offerEventPublisher.approvalStatusChanged(approval, OfferApproval.ApprovalStatus.PENDING, actorId);
+        }
+        offerApprovalRepository.saveAll(accepted.values());
+
+        processWorkflowLogic(accepted.values(), actorId);
+
+        acceptedResults.values().forEach(result -> {
+            result.setSuccess(true);
+            result.setStatus(request.getAction());
+        });
+        return results;
+    }
+
+    /**
+     * Applies the SLA escalation policy to overdue steps. Steps decided since their deadline
+     * fired, or whose offer left PENDING_APPROVAL, are ignored. Returns the number escalated.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int escalateOverdue(Collection<Long> approvalIds, ApprovalSlaScheduler.EscalationPolicy policy,
+                               Long reassignTo) {
+        return optimisticLockRetry.execute("SLA escalation",
+                () -> applyEscalation(approvalIds, policy, reassignTo));
+    }
+
+    private int applyEscalation(Collection<Long> approvalIds, ApprovalSlaScheduler.EscalationPolicy policy,
+                                Long reassignTo) {
+        List<OfferApproval> overdue = offerApprovalRepository.findAllWithOfferByIdIn(approvalIds).stream()
+                .filter(ApprovalSlaScheduler::stillAwaited)
+                .collect(Collectors.toList());
+        if (overdue.isEmpty()) {
+            return 0;
+        }
+
+        if (policy == ApprovalSlaScheduler.EscalationPolicy.AUTO_SKIP) {
+            LocalDateTime now = LocalDateTime.now();
+            for (OfferApproval approval : overdue) {
+                approval.setStatus(OfferApproval.ApprovalStatus.SKIPPED);
+                approval.setComment("Skipped after the approval SLA expired");
+                approval.setActionTimestamp(now);
+                offerEventPublisher.approvalStatusChanged(approval, OfferApproval.ApprovalStatus.PENDING, null);
+            }
+            offerApprovalRepository.saveAll(overdue);
+            processWorkflowLogic(overdue, null);
+        } else if (policy == ApprovalSlaScheduler.EscalationPolicy.REASSIGN && reassignTo != null) {
+            List<OfferApproval> reassigned = new ArrayList<>();
+            for (OfferApproval approval : overdue) {
+                Long previousApproverId = approval.getApproverId();
+                if (reassignTo.equals(previousApproverId)) {
+                    notificationOutbox.approvalRequested(approval);
+                    continue;
+                }
+                approval.setApproverId(reassignTo);
+                offerEventPublisher.approvalReassigned(approval, previousApproverId, null);
+                reassigned.add(approval);
+            }
+            // The approvals ETag is built from the offer version, so a new approver has to bump it
+            reassigned.stream()
+                    .map(OfferApproval::getOffer)
+                    .distinct()
+                    .forEach(offer -> entityManager.lock(offer, LockModeType.OPTIMISTIC_FORCE_INCREMENT));
+            offerApprovalRepository.saveAllAndFlush(reassigned);
+            activateStage(reassigned);
+        } else {
+            overdue.forEach(notificationOutbox::approvalRequested);
+        }
+        return overdue.size();
+    }
+
+    // Both pending views are served from the materialized inbox
     public List<OfferApprovalDTO> getPendingApprovals(Long approverId) {
-        return offerApprovalRepository.findByApproverIdAndStatus(
-                        approverId, OfferApproval.ApprovalStatus.PENDING)
+        return approvalInboxService.getInbox(approverId)
                 .stream()
-                .map(this::convertToDTO)
+                .map(this::convertInboxEntryToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OfferApprovalDTO processApprovalByOfferId(Long offerId, ApprovalActionRequest request, Long actorId, String actorRole) {
+        return optimisticLockRetry.execute("Approval on offer " + offerId,
+                () -> applyApprovalByOfferId(offerId, request, actorId));
+    }
+
+    private OfferApprovalDTO applyApprovalByOfferId(Long offerId, ApprovalActionRequest request, Long actorId) {
         // Find the pending approval for this user and offer
         List<OfferApproval> pendingApprovals = offerApprovalRepository
                 .findByOfferIdAndApproverIdAndStatus(offerId, actorId, OfferApproval.ApprovalStatus.PENDING);
@@ -99,19 +305,25 @@ public class ApprovalService {
         approval.setActionTimestamp(LocalDateTime.now());
 
         approval = offerApprovalRepository.save(approval);
+        offerEventPublisher.approvalStatusChanged(approval, OfferApproval.ApprovalStatus.PENDING, actorId);
 
         // Check if workflow is complete
-        processWorkflowLogic(approval.getOffer());
+        processWorkflowLogic(approval.getOffer(), approval);
 
         return convertToDTO(approval);
     }
 
+    @Transactional(readOnly = true)
     public List<PendingApprovalDetailDTO> getPendingApprovalsWithDetails(Long approverId) {
-        return offerApprovalRepository.findByApproverIdAndStatus(
-                        approverId, OfferApproval.ApprovalStatus.PENDING)
-                .stream()
-                .map(this::convertToDetailedDTO)
-                .collect(Collectors.toList());
+        return approvalInboxService.getInbox(approverId);
+    }
+
+    // Every approval change also updates the offer's counters, so the offer's version stamp
+    // changes whenever its approval list does.
+    @Transactional(readOnly = true)
+    public OfferLetterRepository.VersionStamp getOfferApprovalsVersionStamp(Long offerId) {
+        return offerLetterRepository.findVersionStampById(offerId)
+                .orElseThrow(() -> new RuntimeException("Offer not found"));
     }
 
     public List<OfferApprovalDTO> getOfferApprovals(Long offerId) {
@@ -121,6 +333,28 @@ public class ApprovalService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Sparse variant of the approval list endpoints: selects only the requested columns.
+     * Null filters are ignored; the result is ordered like the full lists.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> listApprovalFields(Long offerId, Long approverId,
+                                                        OfferApproval.ApprovalStatus status, Set<String> fields) {
+        return sparseFieldQuery.select(OfferApproval.class, APPROVAL_FIELDS, fields, (cb, root) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (offerId != null) {
+                predicates.add(cb.equal(root.get("offer").get("id"), offerId));
+            }
+            if (approverId != null) {
+                predicates.add(cb.equal(root.get("approverId"), approverId));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        }, offerId != null ? "approvalOrder" : "id");
+    }
+
     public List<OfferApprovalDTO> getAllApprovalsForUser(Long approverId) {
         return offerApprovalRepository.findByApproverId(approverId)
                 .stream()
@@ -128,42 +362,8 @@ public class ApprovalService {
                 .collect(Collectors.toList());
     }
 
-    private PendingApprovalDetailDTO convertToDetailedDTO(OfferApproval approval) {
-        PendingApprovalDetailDTO dto = new PendingApprovalDetailDTO();
-        dto.setApprovalId(approval.getId());
-        dto.setOfferId(approval.getOffer().getId());
-        dto.setApproverId(approval.getApproverId());
-        dto.setApproverRole(approval.getApproverRole());
-        dto.setApprovalOrder(approval.getApprovalOrder());
-        dto.setComment(approval.getComment());
-        dto.setCreatedAt(approval.getOffer().getCreatedAt());
-
-        // Add offer details for context
-        OfferLetter offer = approval.getOffer();
-        dto.setCandidateId(offer.getCandidateId());
-        dto.setCreatedBy(offer.getCreatedBy());
-        dto.setOfferStatus(offer.getStatus().toString());
-
-        // Parse offer content to extract key details
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            Map<String, Object> offerData = mapper.readValue(offer.getOfferContent(), Map.class);
-            dto.setCandidateName((String) offerData.get("candidateName"));
-            dto.setPosition((String) offerData.get("position"));
-            dto.setSalary((String) offerData.get("salary"));
-
-            // Create summary
-            String summary = String.format("Position: %s | Salary: %s | Candidate: %s",
-                    dto.getPosition(), dto.getSalary(), dto.getCandidateName());
-            dto.setOfferSummary(summary);
-        } catch (Exception e) {
-            dto.setOfferSummary("Offer details available in full content");
-        }
-
-        return dto;
-    }
-
-    public OfferApprovalDTO addApprover(Long offerId, Long approverId, String approverRole, Integer order) {
+    public OfferApprovalDTO addApprover(Long offerId, Long approverId, String approverRole, Integer order,
+                                        String quorum) {
         OfferLetter offer = offerLetterRepository.findById(offerId)
                 .orElseThrow(() -> new RuntimeException("Offer not found"));
 
@@ -172,61 +372,183 @@ public class ApprovalService {
         approval.setApproverId(approverId);
         approval.setApproverRole(approverRole);
         approval.setApprovalOrder(order);
+        approval.setRequiredApprovals(parseQuorum(quorum));
         approval.setStatus(OfferApproval.ApprovalStatus.PENDING);
 
         approval = offerApprovalRepository.save(approval);
+        recordApprovalAdded(offer, order);
+        if (offer.getStatus() == OfferLetter.OfferStatus.PENDING_APPROVAL
+                && order.equals(offer.getCurrentApprovalOrder())) {
+            // Joins the current stage, so its SLA clock starts now
+            approval.setActivatedAt(LocalDateTime.now());
+            offerEventPublisher.approvalActivated(approval);
+        }
+        offerLetterRepository.save(offer);
+        offerEventPublisher.approvalStatusChanged(approval, null, null);
 
         return convertToDTO(approval);
     }
 
-    private void processWorkflowLogic(OfferLetter offer) {
-        List<OfferApproval> approvals = offerApprovalRepository.findByOfferIdOrderByApprovalOrder(offer.getId());
+    private void processWorkflowLogic(OfferLetter offer, OfferApproval actedOn) {
+        if (actedOn.getStatus() == OfferApproval.ApprovalStatus.PENDING) {
+            return;
+        }
+        processWorkflowLogic(List.of(actedOn), actedOn.getApproverId());
+    }
 
-        // Check if any approval was rejected
-        boolean hasRejection = approvals.stream()
-                .anyMatch(a -> a.getStatus() == OfferApproval.ApprovalStatus.REJECTED);
+    /**
+     * Evaluates the workflow of every offer touched by the decided steps. Costs one stage-tally
+     * query, one lookup of steps to skip when a stage passed with steps still pending, and one
+     * lookup of the next stage when offers advance, however many offers and steps are involved.
+     */
+    private void processWorkflowLogic(Collection<OfferApproval> decided, Long actorId) {
+        Map<Long, List<OfferApproval>> byOffer = new LinkedHashMap<>();
+        for (OfferApproval approval : decided) {
+            byOffer.computeIfAbsent(approval.getOffer().getId(), id -> new ArrayList<>()).add(approval);
+        }
 
-        if (hasRejection) {
-            // Mark offer as rejected directly
-            offer.setStatus(OfferLetter.OfferStatus.REJECTED);
-            offerLetterRepository.save(offer);
-            return;
+        // Tally the touched stages after the decided steps are written
+        Set<StageKey> touched = new LinkedHashSet<>();
+        decided.forEach(a -> touched.add(new StageKey(a.getOffer().getId(), a.getApprovalOrder())));
+        offerApprovalRepository.flush();
+        Map<StageKey, ApprovalWorkflowStateMachine.StageOutcome> outcomes = new LinkedHashMap<>();
+        Set<Long> offersToSkip = new LinkedHashSet<>();
+        for (OfferApprovalRepository.StageCounts counts : offerApprovalRepository.countStagesByOfferIds(byOffer.keySet())) {
+            StageKey key = new StageKey(counts.getOfferId(), counts.getApprovalOrder());
+            if (!touched.contains(key)) {
+                continue;
+            }
+            ApprovalWorkflowStateMachine.StageOutcome outcome = workflowStateMachine.evaluate(
+                    new ApprovalWorkflowStateMachine.StageTally(counts.getTotal(), counts.getSatisfied(),
+                            counts.getPending(), counts.getRequired()));
+            outcomes.put(key, outcome);
+            if (outcome == ApprovalWorkflowStateMachine.StageOutcome.PASSED && counts.getPending() > 0) {
+                offersToSkip.add(counts.getOfferId());
+            }
         }
 
-        // Check if all approvals are complete
-        boolean allApproved = approvals.stream()
-                .allMatch(a -> a.getStatus() == OfferApproval.ApprovalStatus.APPROVED ||
-                        a.getStatus() == OfferApproval.ApprovalStatus.SKIPPED);
+        // A passed stage no longer needs its remaining approvers
+        Map<Long, Integer> skippedByOffer = new LinkedHashMap<>();
+        if (!offersToSkip.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            for (OfferApproval step : offerApprovalRepository.findByOfferIdInAndStatus(
+                    offersToSkip, OfferApproval.ApprovalStatus.PENDING)) {
+                StageKey key = new StageKey(step.getOffer().getId(), step.getApprovalOrder());
+                if (outcomes.get(key) == ApprovalWorkflowStateMachine.StageOutcome.PASSED) {
+                    step.setStatus(OfferApproval.ApprovalStatus.SKIPPED);
+                    step.setComment("Stage quorum reached");
+                    step.setActionTimestamp(now);
+                    skippedByOffer.merge(key.offerId(), 1, Integer::sum);
+                    offerEventPublisher.approvalStatusChanged(step, OfferApproval.ApprovalStatus.PENDING, null);
+                }
+            }
+        }
 
-        if (allApproved) {
-            // Mark offer ready for signature directly
-            offer.setStatus(OfferLetter.OfferStatus.READY_FOR_SIGN);
-            offerLetterRepository.save(offer);
+        List<OfferLetter> offers = new ArrayList<>(byOffer.size());
+        List<OfferLetter> completed = new ArrayList<>();
+        Map<Long, OfferLetter> advancing = new LinkedHashMap<>();
+        for (List<OfferApproval> steps : byOffer.values()) {
+            OfferLetter offer = steps.get(0).getOffer();
+            OfferLetter.OfferStatus before = offer.getStatus();
+            boolean failed = false;
+            boolean currentPassed = false;
+            for (Map.Entry<StageKey, ApprovalWorkflowStateMachine.StageOutcome> entry : outcomes.entrySet()) {
+                if (entry.getKey().offerId().equals(offer.getId())) {
+                    failed |= entry.getValue() == ApprovalWorkflowStateMachine.StageOutcome.FAILED;
+                    currentPassed |= entry.getValue() == ApprovalWorkflowStateMachine.StageOutcome.PASSED
+                            && workflowStateMachine.isCurrentStage(offer, entry.getKey().approvalOrder());
+                }
+            }
+            int decidedSteps = steps.size() + skippedByOffer.getOrDefault(offer.getId(), 0);
+            ApprovalWorkflowStateMachine.Transition transition =
+                    workflowStateMachine.apply(offer, decidedSteps, failed, currentPassed);
+            offers.add(offer);
+
+            if (offer.getStatus() != before) {
+                offerEventPublisher.offerStatusChanged(offer, before, actorId);
+                if (transition == ApprovalWorkflowStateMachine.Transition.COMPLETE) {
+                    completed.add(offer);
+                }
+            } else if (transition == ApprovalWorkflowStateMachine.Transition.ADVANCE) {
+                advancing.put(offer.getId(), offer);
+            }
+        }
+        offerLetterRepository.saveAll(offers);
+        // Flush first so a version conflict is raised before the next stage is looked up
+        offerLetterRepository.flush();
+
+        List<OfferApproval> toNotify = new ArrayList<>();
+        if (!advancing.isEmpty()) {
+            Map<Long, List<OfferApproval>> nextStages = offerApprovalRepository
+                    .findCurrentStageByOfferIds(advancing.keySet())
+                    .stream()
+                    .collect(Collectors.groupingBy(a -> a.getOffer().getId()));
+            for (OfferLetter offer : advancing.values()) {
+                List<OfferApproval> nextStage = nextStages.getOrDefault(offer.getId(), List.of());
+                if (workflowStateMachine.advanceTo(offer, nextStage)) {
+                    toNotify.addAll(nextStage);
+                }
+            }
+            offerLetterRepository.flush();
+        }
 
-            // Send notification to candidate
-            notificationService.sendOfferToCandidate(offer);
-        } else {
-            // Notify next approver
-            notifyNextApprover(offer);
+        completed.forEach(notificationOutbox::offerToCandidate);
+        // Every approver of a parallel stage is notified together
+        activateStage(toNotify);
+    }
+
+    // Starts the SLA clock of the steps whose stage just became current and asks their approvers to act
+    private void activateStage(List<OfferApproval> steps) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OfferApproval step : steps) {
+            step.setActivatedAt(now);
+            offerEventPublisher.approvalActivated(step);
+            notificationOutbox.approvalRequested(step);
         }
     }
 
-    private void notifyNextApprover(OfferLetter offer) {
-        List<OfferApproval> pendingApprovals = offerApprovalRepository
-                .findByOfferIdAndStatus(offer.getId(), OfferApproval.ApprovalStatus.PENDING);
+    // ALL (or nothing) -> null, ANY -> 1, N -> N approvals of the stage
+    private static Integer parseQuorum(String quorum) {
+        if (quorum == null || quorum.isBlank() || "ALL".equalsIgnoreCase(quorum.trim())) {
+            return null;
+        }
+        if ("ANY".equalsIgnoreCase(quorum.trim())) {
+            return 1;
+        }
+        try {
+            int required = Integer.parseInt(quorum.trim());
+            if (required >= 1) {
+                return required;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through to the error below
+        }
+        throw new RuntimeException("Invalid quorum: " + quorum + " (expected ALL, ANY or a positive number)");
+    }
 
-        if (!pendingApprovals.isEmpty()) {
-            // Find the next approver in order
-            OfferApproval nextApproval = pendingApprovals.stream()
-                    .min((a1, a2) -> a1.getApprovalOrder().compareTo(a2.getApprovalOrder()))
-                    .orElse(null);
+    private record StageKey(Long offerId, Integer approvalOrder) {
+    }
 
-            if (nextApproval != null) {
-                notificationService.sendApprovalNotification(nextApproval);
-            }
+    private void recordApprovalAdded(OfferLetter offer, Integer order) {
+        offer.setTotalApprovals(offer.getTotalApprovals() + 1);
+        offer.setPendingApprovals(offer.getPendingApprovals() + 1);
+        if (offer.getCurrentApprovalOrder() == null || order < offer.getCurrentApprovalOrder()) {
+            offer.setCurrentApprovalOrder(order);
         }
     }
 
+    private OfferApprovalDTO convertInboxEntryToDTO(PendingApprovalDetailDTO entry) {
+        OfferApprovalDTO dto = new OfferApprovalDTO();
+        dto.setId(entry.getApprovalId());
+        dto.setOfferId(entry.getOfferId());
+        dto.setApproverId(entry.getApproverId());
+        dto.setApproverRole(entry.getApproverRole());
+        dto.setApprovalOrder(entry.getApprovalOrder());
+        dto.setStatus(OfferApproval.ApprovalStatus.PENDING);
+        dto.setComment(entry.getComment());
+        return dto;
+    }
+
     private OfferApprovalDTO convertToDTO(OfferApproval approval) {
         OfferApprovalDTO dto = new OfferApprovalDTO();
         dto.setId(approval.getId());
@@ -0,0 +1,210 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.event.ApprovalActivatedEvent;
+import com.screening.interviews.event.ApprovalStatusChangedEvent;
+import com.screening.interviews.model.*;
+import com.screening.interviews.repo.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Reminder and escalation deadlines for pending approval steps, kept in a hashed timing wheel
+ * instead of polling the table. A step is scheduled when its stage becomes current and its
+ * timers are cancelled as soon as it is acted on. The wheel is rebuilt from the database on
+ * startup. Fired deadlines are queued and handled in batches, re-checked against the database
+ * so a step decided in the meantime is left alone.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalSlaScheduler {
+
+    public enum EscalationPolicy {
+        NOTIFY,    // remind the approver again
+        AUTO_SKIP, // skip the step; it counts toward the stage quorum like an approval
+        REASSIGN   // hand the step to app.approvals.sla.reassign-to
+    }
+
+    private enum Kind {
+        REMINDER, ESCALATION
+    }
+
+    private record Deadline(Long approvalId, Kind kind) {
+    }
+
+    private final OfferApprovalRepository offerApprovalRepository;
+    private final ApprovalService approvalService;
+    private final NotificationOutbox notificationOutbox;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.approvals.sla.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.approvals.sla.reminder-after:24h}")
+    private Duration reminderAfter;
+
+    @Value("${app.approvals.sla.escalate-after:72h}")
+    private Duration escalateAfter;
+
+    @Value("${app.approvals.sla.escalation-policy:NOTIFY}")
+    private EscalationPolicy escalationPolicy;
+
+    @Value("${app.approvals.sla.reassign-to:#{null}}")
+    private Long reassignTo;
+
+    @Value("${app.approvals.sla.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${app.approvals.sla.wheel-size:4096}")
+    private int wheelSize;
+
+    @Value("${app.approvals.sla.batch-size:200}")
+    private int batchSize;
+
+    private final Map<Long, List<HashedTimingWheel<Deadline>.Timeout>> timers = new ConcurrentHashMap<>();
+    private final Queue<Deadline> due = new ConcurrentLinkedQueue<>();
+    private HashedTimingWheel<Deadline> wheel;
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            wheel = new HashedTimingWheel<>("approval-sla-wheel", tickMillis, wheelSize, due::addAll);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (wheel == null) {
+            return;
+        }
+        List<OfferApprovalRepository.ActiveApprovalRow> active = offerApprovalRepository.findActivePendingApprovals();
+        LocalDateTime now = LocalDateTime.now();
+        for (OfferApprovalRepository.ActiveApprovalRow row : active) {
+            schedule(row.getApprovalId(), row.getActivatedAt() != null ? row.getActivatedAt() : now);
+        }
+        log.info("Approval SLA wheel rebuilt with {} pending steps", active.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalActivated(ApprovalActivatedEvent event) {
+        if (wheel != null) {
+            schedule(event.getApprovalId(), event.getActivatedAt());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalStatusChanged(ApprovalStatusChangedEvent event) {
+        if (event.getNewStatus() != OfferApproval.ApprovalStatus.PENDING) {
+            cancel(event.getApprovalId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.approvals.sla.drain-interval-ms:5000}")
+    public void drain() {
+        List<Long> reminders = new ArrayList<>();
+        List<Long> escalations = new ArrayList<>();
+        Deadline deadline;
+        while ((deadline = due.poll()) != null) {
+            if (deadline.kind() == Kind.REMINDER) {
+                reminders.add(deadline.approvalId());
+            } else {
+                escalations.add(deadline.approvalId());
+                timers.remove(deadline.approvalId());
+            }
+            if (reminders.size() >= batchSize) {
+                sendReminders(reminders);
+                reminders.clear();
+            }
+            if (escalations.size() >= batchSize) {
+                escalate(escalations);
+                escalations.clear();
+            }
+        }
+        if (!reminders.isEmpty()) {
+            sendReminders(reminders);
+        }
+        if (!escalations.isEmpty()) {
+            escalate(escalations);
+        }
+    }
+
+    public int getScheduledCount() {
+        return wheel != null ? wheel.size() : 0;
+    }
+
+    private void schedule(Long approvalId, LocalDateTime activatedAt) {
+        cancel(approvalId);
+        long elapsed = Duration.between(activatedAt, LocalDateTime.now()).toMillis();
+        long untilEscalation = escalateAfter.toMillis() - elapsed;
+        long untilReminder = reminderAfter.toMillis() - elapsed;
+
+        List<HashedTimingWheel<Deadline>.Timeout> scheduled = new ArrayList<>(2);
+        // A reminder missed while the app was down still goes out, unless escalation is already due
+        if (reminderAfter.compareTo(escalateAfter) < 0 && untilEscalation > 0) {
+            scheduled.add(wheel.schedule(new Deadline(approvalId, Kind.REMINDER), untilReminder));
+        }
+        scheduled.add(wheel.schedule(new Deadline(approvalId, Kind.ESCALATION), untilEscalation));
+        timers.put(approvalId, scheduled);
+    }
+
+    private void cancel(Long approvalId) {
+        List<HashedTimingWheel<Deadline>.Timeout> scheduled = timers.remove(approvalId);
+        if (scheduled != null) {
+            scheduled.forEach(timeout -> timeout.cancel());
+        }
+    }
+
+    private void sendReminders(List<Long> approvalIds) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        try {
+            tx.executeWithoutResult(status -> offerApprovalRepository.findAllWithOfferByIdIn(approvalIds).stream()
+                    .filter(ApprovalSlaScheduler::stillAwaited)
+                    .forEach(notificationOutbox::approvalRequested));
+        } catch (RuntimeException e) {
+            log.warn("Sending {} approval reminders failed: {}", approvalIds.size(), e.getMessage());
+        }
+    }
+
+    private void escalate(List<Long> approvalIds) {
+        try {
+            int escalated = approvalService.escalateOverdue(approvalIds, escalationPolicy, reassignTo);
+            if (escalated > 0) {
+                log.info("Escalated {} overdue approval steps with policy {}", escalated, escalationPolicy);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Escalating {} overdue approval steps failed: {}", approvalIds.size(), e.getMessage());
+        }
+    }
+
+    static boolean stillAwaited(OfferApproval approval) {
+        return approval.getStatus() == OfferApproval.ApprovalStatus.PENDING
+                && approval.getActivatedAt() != null
+                && approval.getOffer().getStatus() == OfferLetter.OfferStatus.PENDING_APPROVAL;
+    }
+}
@@ -0,0 +1,140 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.model.OfferApproval;
+import com.screening.interviews.model.OfferLetter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Decides the offer-level effect of approval steps leaving PENDING, using only the offer's
+ * denormalized counters and a tally of the stage the steps belong to. Steps that share an
+ * {@code approvalOrder} form a parallel stage; the stage passes once its quorum of steps is
+ * APPROVED or SKIPPED, and fails once the quorum can no longer be reached.
+ *
+ * <pre>
+ * offer status      stage outcome  condition                     next offer status  transition
+ * ----------------  -------------  ----------------------------  -----------------  ----------
+ * PENDING_APPROVAL  FAILED         -                             REJECTED           REJECT
+ * PENDING_APPROVAL  any            pendingApprovals == 0         READY_FOR_SIGN     COMPLETE
+ * PENDING_APPROVAL  PASSED         stage order == current order  PENDING_APPROVAL   ADVANCE
+ * PENDING_APPROVAL  otherwise      -                             PENDING_APPROVAL   STAY
+ * any other status  any            -                             unchanged          STAY
+ * </pre>
+ *
+ * Invariants after every transition: {@code 0 <= pendingApprovals <= totalApprovals},
+ * {@code currentApprovalOrder} is null whenever the offer is not PENDING_APPROVAL, and a closed
+ * offer (REJECTED, READY_FOR_SIGN, SIGNED) has no pending approvals. A rejection closes the
+ * chain, so steps of later stages that were never decided stop counting as pending.
+ */
+@Slf4j
+@Component
+public class ApprovalWorkflowStateMachine {
+
+    public enum Transition {
+        REJECT,   // offer rejected, chain closed
+        COMPLETE, // last pending step cleared, offer ready for signature
+        ADVANCE,  // current stage passed, the next pending stage becomes current
+        STAY      // counters only: stage still open, an out-of-order stage, or workflow already decided
+    }
+
+    public enum StageOutcome {
+        OPEN,   // quorum not reached yet, still reachable
+        PASSED, // quorum reached; remaining pending steps of the stage are skipped
+        FAILED  // quorum can no longer be reached
+    }
+
+    /**
+     * Counts for one stage after the acted-on steps were written. {@code required} is the
+     * stage quorum as stored on its steps, null meaning all of them.
+     */
+    public record StageTally(long total, long satisfied, long pending, Integer required) {
+
+        long requiredCount() {
+            return required == null ? total : Math.min(required, total);
+        }
+    }
+
+    public StageOutcome evaluate(StageTally stage) {
+        long required = stage.requiredCount();
+        if (stage.satisfied() >= required) {
+            return StageOutcome.PASSED;
+        }
+        if (stage.satisfied() + stage.pending() < required) {
+            return StageOutcome.FAILED;
+        }
+        return StageOutcome.OPEN;
+    }
+
+    /**
+     * Applies decided steps to the offer's counters and status and returns the transition taken.
+     * {@code decidedSteps} counts every step that left PENDING, including steps skipped because
+     * their stage passed; {@code currentStagePassed} is true when the current stage passed.
+     */
+    public Transition apply(OfferLetter offer, int decidedSteps, boolean stageFailed, boolean currentStagePassed) {
+        offer.setPendingApprovals(Math.max(0, offer.getPendingApprovals() - decidedSteps));
+
+        Transition transition;
+        if (offer.getStatus() != OfferLetter.OfferStatus.PENDING_APPROVAL) {
+            transition = Transition.STAY;
+        } else if (stageFailed) {
+            offer.setStatus(OfferLetter.OfferStatus.REJECTED);
+            offer.setPendingApprovals(0);
+            offer.setCurrentApprovalOrder(null);
+            transition = Transition.REJECT;
+        } else if (offer.getPendingApprovals() == 0) {
+            offer.setStatus(OfferLetter.OfferStatus.READY_FOR_SIGN);
+            offer.setCurrentApprovalOrder(null);
+            transition = Transition.COMPLETE;
+        } else if (currentStagePassed) {
+            transition = Transition.ADVANCE;
+        } else {
+            transition = Transition.STAY;
+        }
+
+        checkInvariants(offer);
+        return transition;
+    }
+
+    /** Approval is over for these statuses: nothing is pending and there is no current stage. */
+    public static boolean isClosed(OfferLetter.OfferStatus status) {
+        return status == OfferLetter.OfferStatus.REJECTED
+                || status == OfferLetter.OfferStatus.READY_FOR_SIGN
+                || status == OfferLetter.OfferStatus.SIGNED;
+    }
+
+    public boolean isCurrentStage(OfferLetter offer, Integer approvalOrder) {
+        return Objects.equals(approvalOrder, offer.getCurrentApprovalOrder());
+    }
+
+    /**
+     * Applies the result of the ADVANCE lookup: every pending step of the lowest pending stage.
+     * Returns true when the current stage moved on, i.e. its approvers have not been notified yet.
+     */
+    public boolean advanceTo(OfferLetter offer, List<OfferApproval> nextStage) {
+        Integer previous = offer.getCurrentApprovalOrder();
+        Integer next = nextStage.isEmpty() ? null : nextStage.get(0).getApprovalOrder();
+        offer.setCurrentApprovalOrder(next);
+        checkInvariants(offer);
+        return next != null && !Objects.equals(previous, next);
+    }
+
+    // Drift is logged rather than thrown: ApprovalCounterRepairJob recomputes the counters
+    // from the approval rows, and blocking approvals on a stale counter would be worse.
+    private void checkInvariants(OfferLetter offer) {
+        int pending = offer.getPendingApprovals();
+        int total = offer.getTotalApprovals();
+        if (pending < 0 || pending > total) {
+            log.warn("Offer {} approval counters out of range: pending={}, total={}", offer.getId(), pending, total);
+        }
+        if (offer.getStatus() != OfferLetter.OfferStatus.PENDING_APPROVAL && offer.getCurrentApprovalOrder() != null) {
+            log.warn("Offer {} is {} but still has current approval order {}",
+                    offer.getId(), offer.getStatus(), offer.getCurrentApprovalOrder());
+        }
+        if (isClosed(offer.getStatus()) && pending != 0) {
+            log.warn("Offer {} is {} but still counts {} pending approvals", offer.getId(), offer.getStatus(), pending);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.screening.interviews.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.screening.interviews.dto.*;
+import com.screening.interviews.event.OfferEventPublisher;
+import com.screening.interviews.model.*;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates many offers from one template. The template is compiled once, every candidate is
+ * rendered through it by OfferTemplateService, and rows are persisted chunk by chunk through JPA,
+ * which sends them as JDBC batches thanks to the pooled id sequences. Each chunk commits on its
+ * own and its results are written to the response before the next one starts.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkOfferService {
+
+    private final OfferTemplateService offerTemplateService;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final OfferEventPublisher offerEventPublisher;
+    private final OfferContentExtractor offerContentExtractor;
+
+    @Value("${app.offers.bulk.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${app.offers.bulk.max-candidates:5000}")
+    private int maxCandidates;
+
+    /**
+     * Validates the request and compiles the template up front, so a bad template id or an
+     * oversized request fails before any response bytes are written.
+     */
+    public OfferTemplateService.PreparedTemplate prepare(BulkCreateOffersRequest request) {
+        if (request.getTemplateId() == null) {
+            throw new RuntimeException("templateId is required");
+        }
+        if (request.getCandidates() == null || request.getCandidates().isEmpty()) {
+            throw new RuntimeException("At least one candidate is required");
+        }
+        if (request.getCandidates().size() > maxCandidates) {
+            throw new RuntimeException("At most " + maxCandidates + " candidates can be created per request");
+        }
+        return offerTemplateService.prepareTemplate(request.getTemplateId());
+    }
+
+    public void createOffers(OfferTemplateService.PreparedTemplate template, BulkCreateOffersRequest request,
+                             Long createdById, OutputStream out) throws IOException {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<BulkCreateOffersRequest.CandidateOffer> candidates = request.getCandidates();
+
+        try (SequenceWriter writer = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            for (int from = 0; from < candidates.size(); from += chunkSize) {
+                int to = Math.min(from + chunkSize, candidates.size());
+                List<BulkOfferResultDTO> results = processChunk(tx, template.compiled(), template.category(), candidates,
+                        from, to, createdById);
+                for (BulkOfferResultDTO result : results) {
+                    writer.write(result);
+                }
+                writer.flush();
+            }
+            out.write('\n');
+        }
+    }
+
+    private List<BulkOfferResultDTO> processChunk(TransactionTemplate tx, CompiledTemplate template,
+                                                  String templateCategory,
+                                                  List<BulkCreateOffersRequest.CandidateOffer> candidates,
+                                                  int from, int to, Long createdById) {
+        List<BulkOfferResultDTO> results = new ArrayList<>(to - from);
+        List<BulkOfferResultDTO> rendered = new ArrayList<>(to - from);
+        List<String> contents = new ArrayList<>(to - from);
+
+        // Render outside the transaction; a bad customization only fails its own item
+        for (int i = from; i < to; i++) {
+            BulkCreateOffersRequest.CandidateOffer candidate = candidates.get(i);
+            BulkOfferResultDTO result = new BulkOfferResultDTO();
+            result.setIndex(i);
+            result.setCandidateId(candidate.getCandidateId());
+            results.add(result);
+
+            if (candidate.getCandidateId() == null) {
+                result.setError("candidateId is required");
+                continue;
+            }
+            try {
+                contents.add(offerTemplateService.processCompiledTemplate(template, candidate.getCustomizations()));
+                rendered.add(result);
+            } catch (RuntimeException e) {
+                result.setError(e.getMessage());
+            }
+        }
+
+        if (rendered.isEmpty()) {
+            return results;
+        }
+
+        try {
+            List<Long> ids = tx.execute(status -> insertBatch(rendered, contents, templateCategory, createdById));
+            for (int i = 0; i < rendered.size(); i++) {
+                rendered.get(i).setOfferId(ids.get(i));
+                rendered.get(i).setSuccess(true);
+            }
+        } catch (RuntimeException e) {
+            for (BulkOfferResultDTO result : rendered) {
+                result.setError("Chunk insert failed: " + e.getMessage());
+            }
+        }
+        return results;
+    }
+
+    private List<Long> insertBatch(List<BulkOfferResultDTO> rows, List<String> contents, String templateCategory,
+                                   Long createdById) {
+        List<OfferLetter> offers = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            OfferLetter offer = new OfferLetter();
+            offer.setCandidateId(rows.get(i).getCandidateId());
+            offer.setCreatedBy(createdById);
+            offer.setOfferContent(contents.get(i));
+            offer.setTemplateCategory(templateCategory);
+            offer.setStatus(OfferLetter.OfferStatus.DRAFT);
+            offerContentExtractor.apply(offer);
+            entityManager.persist(offer);
+            offers.add(offer);
+        }
+        // Ids come from the pooled sequence, so the flush goes out as JDBC batches
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> ids = new ArrayList<>(offers.size());
+        for (OfferLetter offer : offers) {
+            ids.add(offer.getId());
+            offerEventPublisher.offerStatusChanged(offer, null, createdById);
+        }
+        return ids;
+    }
+}
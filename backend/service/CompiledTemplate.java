@@ -0,0 +1,200 @@
+package com.screening.interviews.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template parsed once into alternating literal text and {@code {{placeholder}}} slots.
+ * {@code literals[i]} precedes {@code slots[i]}; the last literal closes the template, so
+ * rendering is a single append loop over two arrays.
+ */
+public final class CompiledTemplate {
+
+    enum SlotContext {
+        TEXT,        // plain text template, value written as-is
+        JSON_STRING, // inside a JSON string literal, value is JSON-escaped
+        JSON_VALUE   // bare JSON position, value is written as a JSON literal
+    }
+
+    static final class Slot {
+        final String raw;       // original "{{ key }}" text, re-emitted by MissingKeyPolicy.KEEP
+        final String key;
+        final String[] path;    // dotted key split once, e.g. "compensation.base"
+        final SlotContext context;
+
+        Slot(String raw, String key, SlotContext context) {
+            this.raw = raw;
+            this.key = key;
+            this.path = key.split("\\.");
+            this.context = context;
+        }
+    }
+
+    private final Long templateId;
+    private final LocalDateTime updatedAt;
+    private final String[] literals;
+    private final Slot[] slots;
+    private final int literalLength;
+
+    private CompiledTemplate(Long templateId, LocalDateTime updatedAt, String[] literals, Slot[] slots) {
+        this.templateId = templateId;
+        this.updatedAt = updatedAt;
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public Long getTemplateId() {
+        return templateId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public int getSlotCount() {
+        return slots.length;
+    }
+
+    public static CompiledTemplate compile(Long templateId, LocalDateTime updatedAt, String content) {
+        String source = content != null ? content : "";
+        boolean json = looksLikeJson(source);
+
+        List<String> literals = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+
+        int literalStart = 0;
+        boolean inString = false;
+        int i = 0;
+        int n = source.length();
+        while (i < n) {
+            char c = source.charAt(i);
+            if (c == '{' && i + 1 < n && source.charAt(i + 1) == '{') {
+                int close = source.indexOf("}}", i + 2);
+                if (close < 0) {
+                    break; // unterminated placeholder, rest of the template is literal
+                }
+                String key = source.substring(i + 2, close).trim();
+                if (!key.isEmpty()) {
+                    SlotContext context = !json ? SlotContext.TEXT
+                            : inString ? SlotContext.JSON_STRING : SlotContext.JSON_VALUE;
+                    literals.add(source.substring(literalStart, i));
+                    slots.add(new Slot(source.substring(i, close + 2), key, context));
+                    literalStart = close + 2;
+                }
+                i = close + 2;
+                continue;
+            }
+            if (json) {
+                if (c == '\\' && inString) {
+                    i += 2; // skip the escaped character
+                    continue;
+                }
+                if (c == '"') {
+                    inString = !inString;
+                }
+            }
+            i++;
+        }
+        literals.add(source.substring(literalStart));
+
+        return new CompiledTemplate(templateId, updatedAt,
+                literals.toArray(new String[0]), slots.toArray(new Slot[0]));
+    }
+
+    String render(JsonNode values, TemplateEngine.MissingKeyPolicy missingKeyPolicy) {
+        StringBuilder out = new StringBuilder(literalLength + slots.length * 16);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            Slot slot = slots[i];
+            JsonNode value = lookup(values, slot.path);
+            if (value == null) {
+                appendMissing(out, slot, missingKeyPolicy);
+            } else {
+                appendValue(out, slot.context, value);
+            }
+        }
+        out.append(literals[slots.length]);
+        return out.toString();
+    }
+
+    private static JsonNode lookup(JsonNode root, String[] path) {
+        JsonNode node = root;
+        for (String part : path) {
+            if (node == null || !node.isObject()) {
+                return null;
+            }
+            node = node.get(part);
+        }
+        return node == null || node.isMissingNode() ? null : node;
+    }
+
+    private static void appendMissing(StringBuilder out, Slot slot, TemplateEngine.MissingKeyPolicy policy) {
+        switch (policy) {
+            case KEEP -> out.append(slot.raw);
+            case EMPTY -> {
+                if (slot.context == SlotContext.JSON_VALUE) {
+                    out.append("null");
+                }
+            }
+            case FAIL -> throw new RuntimeException("Missing value for template placeholder: " + slot.key);
+        }
+    }
+
+    private static void appendValue(StringBuilder out, SlotContext context, JsonNode value) {
+        if (value.isNull() && context != SlotContext.JSON_VALUE) {
+            return;
+        }
+        switch (context) {
+            case TEXT -> out.append(value.isValueNode() ? value.asText() : value.toString());
+            case JSON_STRING -> appendJsonEscaped(out, value.isValueNode() ? value.asText() : value.toString());
+            case JSON_VALUE -> {
+                if (value.isTextual()) {
+                    out.append('"');
+                    appendJsonEscaped(out, value.textValue());
+                    out.append('"');
+                } else {
+                    out.append(value.toString());
+                }
+            }
+        }
+    }
+
+    private static void appendJsonEscaped(StringBuilder out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean looksLikeJson(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                boolean placeholder = c == '{' && i + 1 < content.length() && content.charAt(i + 1) == '{';
+                return (c == '{' && !placeholder) || c == '[';
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,151 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.dto.DashboardAggregatesDTO;
+import com.screening.interviews.event.ApprovalReassignedEvent;
+import com.screening.interviews.event.ApprovalStatusChangedEvent;
+import com.screening.interviews.event.OfferStatusChangedEvent;
+import com.screening.interviews.model.*;
+import com.screening.interviews.repo.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory dashboard counters. Seeded from GROUP BY queries at startup, moved by committed
+ * state-change events, and periodically replaced by a fresh snapshot from the database to
+ * absorb any drift (missed events, changes made outside the services).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardMetricsService {
+
+    private final OfferLetterRepository offerLetterRepository;
+    private final OfferApprovalRepository offerApprovalRepository;
+    private final SignatureRepository signatureRepository;
+
+    private volatile Counters counters = new Counters();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${app.dashboard.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Counters fresh = new Counters();
+        for (OfferLetterRepository.StatusCreatorCount row : offerLetterRepository.countByStatusAndCreator()) {
+            fresh.byStatus.get(row.getStatus()).add(row.getCount());
+            fresh.byCreator.computeIfAbsent(row.getCreatedBy(), k -> new LongAdder()).add(row.getCount());
+        }
+        for (OfferApprovalRepository.ApproverPendingCount row : offerApprovalRepository.countPendingByApprover()) {
+            fresh.pendingByApprover.computeIfAbsent(row.getApproverId(), k -> new LongAdder()).add(row.getCount());
+        }
+        fresh.signedDay = LocalDate.now();
+        fresh.signedToday.add(signatureRepository.countBySignedAtGreaterThanEqual(fresh.signedDay.atStartOfDay()));
+        fresh.reconciledAt = LocalDateTime.now();
+
+        counters = fresh;
+        log.debug("Dashboard counters reconciled");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferStatusChanged(OfferStatusChangedEvent event) {
+        Counters c = counters;
+        if (event.getPreviousStatus() == null) {
+            c.byCreator.computeIfAbsent(event.getCreatedBy(), k -> new LongAdder()).increment();
+        } else {
+            c.byStatus.get(event.getPreviousStatus()).decrement();
+        }
+        c.byStatus.get(event.getNewStatus()).increment();
+
+        if (event.getNewStatus() == OfferLetter.OfferStatus.SIGNED) {
+            c.signedTodayCounter().increment();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalStatusChanged(ApprovalStatusChangedEvent event) {
+        Counters c = counters;
+        if (event.getPreviousStatus() == null && event.getNewStatus() == OfferApproval.ApprovalStatus.PENDING) {
+            c.pendingByApprover.computeIfAbsent(event.getApproverId(), k -> new LongAdder()).increment();
+        } else if (event.getPreviousStatus() == OfferApproval.ApprovalStatus.PENDING
+                && event.getNewStatus() != OfferApproval.ApprovalStatus.PENDING) {
+            c.pendingByApprover.computeIfAbsent(event.getApproverId(), k -> new LongAdder()).decrement();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalReassigned(ApprovalReassignedEvent event) {
+        Counters c = counters;
+        c.pendingByApprover.computeIfAbsent(event.getPreviousApproverId(), k -> new LongAdder()).decrement();
+        c.pendingByApprover.computeIfAbsent(event.getNewApproverId(), k -> new LongAdder()).increment();
+    }
+
+    public DashboardAggregatesDTO getAggregates() {
+        Counters c = counters;
+        DashboardAggregatesDTO dto = new DashboardAggregatesDTO();
+
+        Map<OfferLetter.OfferStatus, Long> byStatus = new EnumMap<>(OfferLetter.OfferStatus.class);
+        c.byStatus.forEach((status, count) -> byStatus.put(status, count.sum()));
+        dto.setOffersByStatus(byStatus);
+        dto.setOffersByCreator(sumAll(c.byCreator));
+        dto.setPendingApprovalsByApprover(sumAll(c.pendingByApprover));
+        dto.setSignedToday(LocalDate.now().equals(c.signedDay) ? c.signedToday.sum() : 0);
+        dto.setReconciledAt(c.reconciledAt);
+        return dto;
+    }
+
+    private static Map<Long, Long> sumAll(Map<Long, LongAdder> adders) {
+        Map<Long, Long> result = new HashMap<>();
+        adders.forEach((key, count) -> {
+            long sum = count.sum();
+            if (sum != 0) {
+                result.put(key, sum);
+            }
+        });
+        return result;
+    }
+
+    private static final class Counters {
+        final Map<OfferLetter.OfferStatus, LongAdder> byStatus = new EnumMap<>(OfferLetter.OfferStatus.class);
+        final Map<Long, LongAdder> byCreator = new ConcurrentHashMap<>();
+        final Map<Long, LongAdder> pendingByApprover = new ConcurrentHashMap<>();
+        volatile LongAdder signedToday = new LongAdder();
+        volatile LocalDate signedDay = LocalDate.now();
+        volatile LocalDateTime reconciledAt;
+
+        Counters() {
+            // All keys are inserted up front, so the EnumMap is only read concurrently
+            for (OfferLetter.OfferStatus status : OfferLetter.OfferStatus.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+        }
+
+        LongAdder signedTodayCounter() {
+            LocalDate today = LocalDate.now();
+            if (!today.equals(signedDay)) {
+                synchronized (this) {
+                    if (!today.equals(signedDay)) {
+                        signedToday = new LongAdder();
+                        signedDay = today;
+                    }
+                }
+            }
+            return signedToday;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.screening.interviews.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: deadlines are hashed into {@code wheelSize} buckets by tick, so
+ * scheduling and cancelling are O(1) and each tick only walks one bucket. Deadlines further
+ * out than one revolution carry a remaining-rounds count. Expired items of a tick are handed
+ * to {@code onExpired} as one batch on the wheel's own thread, which must not block.
+ */
+@Slf4j
+final class HashedTimingWheel<T> {
+
+    final class Timeout {
+        private final T item;
+        private long remainingRounds;
+        private Timeout prev;
+        private Timeout next;
+        private Bucket bucket;
+
+        private Timeout(T item) {
+            this.item = item;
+        }
+
+        /** Returns false when the timeout already fired or was cancelled. */
+        boolean cancel() {
+            synchronized (lock) {
+                if (bucket == null) {
+                    return false;
+                }
+                bucket.remove(this);
+                size--;
+                return true;
+            }
+        }
+    }
+
+    private final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    private final Object lock = new Object();
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Consumer<List<T>> onExpired;
+    private final Thread worker;
+    private final long startNanos;
+    private long tick; // next tick to process, guarded by lock
+    private int size;
+    private volatile boolean running = true;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(String name, long tickMillis, int wheelSize, Consumer<List<T>> onExpired) {
+        int buckets = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1; // round up to a power of two
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(tickMillis, 1));
+        this.wheel = new HashedTimingWheel.Bucket[buckets];
+        for (int i = 0; i < buckets; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = buckets - 1;
+        this.onExpired = onExpired;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    Timeout schedule(T item, long delayMillis) {
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0));
+        Timeout timeout = new Timeout(item);
+        synchronized (lock) {
+            long deadlineTick = Math.max((System.nanoTime() - startNanos + delayNanos + tickNanos - 1) / tickNanos, tick);
+            timeout.remainingRounds = (deadlineTick - tick) / wheel.length;
+            wheel[(int) (deadlineTick & mask)].add(timeout);
+            size++;
+        }
+        return timeout;
+    }
+
+    int size() {
+        synchronized (lock) {
+            return size;
+        }
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long sleepNanos;
+            synchronized (lock) {
+                sleepNanos = startNanos + (tick + 1) * tickNanos - System.nanoTime();
+            }
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+                continue;
+            }
+
+            List<T> expired = new ArrayList<>();
+            synchronized (lock) {
+                Bucket bucket = wheel[(int) (tick & mask)];
+                Timeout timeout = bucket.head;
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    if (timeout.remainingRounds <= 0) {
+                        bucket.remove(timeout);
+                        size--;
+                        expired.add(timeout.item);
+                    } else {
+                        timeout.remainingRounds--;
+                    }
+                    timeout = next;
+                }
+                tick++;
+            }
+
+            if (!expired.isEmpty()) {
+                try {
+                    onExpired.accept(expired);
+                } catch (RuntimeException e) {
+                    log.error("Timing wheel callback failed for {} items", expired.size(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.dto.LiveUpdateDTO;
+import com.screening.interviews.event.ApprovalActivatedEvent;
+import com.screening.interviews.event.ApprovalReassignedEvent;
+import com.screening.interviews.event.ApprovalStatusChangedEvent;
+import com.screening.interviews.event.OfferStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes offer status transitions and approval-inbox changes to connected clients over SSE,
+ * fed by the services' events after commit. Offer status events go to every subscriber (the
+ * offer list is shared), inbox events only to the affected approver. Event ids are
+ * {@code <epoch>-<seq>}; the last {@code app.live.replay-buffer} events are kept so a client
+ * reconnecting with Last-Event-ID gets what it missed, or a {@code resync} event when the gap
+ * can no longer be replayed (buffer overrun or restart). Delivery is at least once.
+ */
+@Slf4j
+@Component
+public class LiveUpdateHub {
+
+    static final String OFFER_STATUS = "offer-status";
+    static final String APPROVAL_INBOX = "approval-inbox";
+    static final String RESYNC = "resync";
+
+    private record LiveEvent(long seq, String name, Long recipientId, LiveUpdateDTO data) {
+    }
+
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Deque<LiveEvent> replay = new ArrayDeque<>();
+    private final ExecutorService fanOut = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "live-update-fan-out");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private long seq; // guarded by replay
+
+    @Value("${app.live.replay-buffer:1000}")
+    private int replayBuffer;
+
+    @Value("${app.live.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> unsubscribe(userId, emitter));
+        emitter.onTimeout(() -> unsubscribe(userId, emitter));
+        emitter.onError(e -> unsubscribe(userId, emitter));
+
+        List<LiveEvent> missed = new ArrayList<>();
+        boolean resync = false;
+        synchronized (replay) {
+            // Registered under the lock: anything published later is fanned out to this emitter
+            subscribers.compute(userId, (k, emitters) -> {
+                List<SseEmitter> list = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+                list.add(emitter);
+                return list;
+            });
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                long lastSeq = parseSeq(lastEventId);
+                long oldest = replay.isEmpty() ? seq + 1 : replay.peekFirst().seq();
+                if (lastSeq < 0 || lastSeq > seq || lastSeq + 1 < oldest) {
+                    resync = true;
+                } else {
+                    for (LiveEvent event : replay) {
+                        if (event.seq() > lastSeq && isFor(event, userId)) {
+                            missed.add(event);
+                        }
+                    }
+                }
+            }
+        }
+
+        try {
+            if (resync) {
+                emitter.send(SseEmitter.event().name(RESYNC).data(""));
+            }
+            for (LiveEvent event : missed) {
+                emitter.send(toSse(event));
+            }
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            unsubscribe(userId, emitter);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferStatusChanged(OfferStatusChangedEvent event) {
+        publish(OFFER_STATUS, null, new LiveUpdateDTO(event.getOfferId(), null, event.getNewStatus().name(),
+                event.getPreviousStatus() != null ? event.getPreviousStatus().name() : null, event.getOccurredAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalStatusChanged(ApprovalStatusChangedEvent event) {
+        publish(APPROVAL_INBOX, event.getApproverId(), new LiveUpdateDTO(event.getOfferId(), event.getApprovalId(),
+                event.getNewStatus().name(),
+                event.getPreviousStatus() != null ? event.getPreviousStatus().name() : null, event.getOccurredAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalActivated(ApprovalActivatedEvent event) {
+        publish(APPROVAL_INBOX, event.getApproverId(), new LiveUpdateDTO(event.getOfferId(), event.getApprovalId(),
+                "ACTIVATED", null, event.getActivatedAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalReassigned(ApprovalReassignedEvent event) {
+        LiveUpdateDTO update = new LiveUpdateDTO(event.getOfferId(), event.getApprovalId(), "REASSIGNED", null,
+                event.getOccurredAt());
+        publish(APPROVAL_INBOX, event.getPreviousApproverId(), update);
+        publish(APPROVAL_INBOX, event.getNewApproverId(), update);
+    }
+
+    @Scheduled(fixedDelayString = "${app.live.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach((userId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(userId, emitter);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fanOut.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    private void publish(String name, Long recipientId, LiveUpdateDTO data) {
+        LiveEvent event;
+        synchronized (replay) {
+            event = new LiveEvent(++seq, name, recipientId, data);
+            replay.addLast(event);
+            while (replay.size() > replayBuffer) {
+                replay.removeFirst();
+            }
+        }
+        // Sends happen off the committing thread so a slow client never delays a request
+        fanOut.execute(() -> deliver(event));
+    }
+
+    private void deliver(LiveEvent event) {
+        if (event.recipientId() == null) {
+            subscribers.forEach((userId, emitters) -> send(userId, emitters, event));
+        } else {
+            List<SseEmitter> emitters = subscribers.get(event.recipientId());
+            if (emitters != null) {
+                send(event.recipientId(), emitters, event);
+            }
+        }
+    }
+
+    private void send(Long userId, List<SseEmitter> emitters, LiveEvent event) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(toSse(event));
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(userId, emitter);
+            }
+        }
+    }
+
+    private void unsubscribe(Long userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(userId, (k, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private SseEmitter.SseEventBuilder toSse(LiveEvent event) {
+        return SseEmitter.event().id(epoch + "-" + event.seq()).name(event.name()).data(event.data());
+    }
+
+    private static boolean isFor(LiveEvent event, Long userId) {
+        return event.recipientId() == null || event.recipientId().equals(userId);
+    }
+
+    // -1 when the id is malformed or was issued before the last restart
+    private long parseSeq(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !lastEventId.substring(0, dash).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
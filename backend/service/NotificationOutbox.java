@@ -0,0 +1,55 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.model.*;
+import com.screening.interviews.repo.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Records notifications as outbox rows in the caller's transaction, so they commit or roll
+ * back with the business change. NotificationOutboxDispatcher delivers them afterwards.
+ * A second approval request for a step that is still queued is dropped.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class NotificationOutbox {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    public void approvalRequested(OfferApproval approval) {
+        List<NotificationOutboxMessage> open = notificationOutboxRepository.findByTypeAndRecipientIdAndStatus(
+                NotificationOutboxMessage.MessageType.APPROVAL_REQUEST, approval.getApproverId(),
+                NotificationOutboxMessage.MessageStatus.PENDING);
+        if (open.stream().anyMatch(m -> m.getAggregateId().equals(approval.getId()))) {
+            return;
+        }
+        enqueue(NotificationOutboxMessage.MessageType.APPROVAL_REQUEST, approval.getId(),
+                approval.getApproverId(), LocalDateTime.now());
+    }
+
+    public void offerToCandidate(OfferLetter offer) {
+        enqueue(NotificationOutboxMessage.MessageType.OFFER_TO_CANDIDATE, offer.getId(), null, LocalDateTime.now());
+    }
+
+    public void offerSigned(OfferLetter offer) {
+        enqueue(NotificationOutboxMessage.MessageType.SIGNED_OFFER, offer.getId(), null, LocalDateTime.now());
+    }
+
+    private void enqueue(NotificationOutboxMessage.MessageType type, Long aggregateId, Long recipientId,
+                         LocalDateTime dueAt) {
+        NotificationOutboxMessage message = new NotificationOutboxMessage();
+        message.setType(type);
+        message.setAggregateId(aggregateId);
+        message.setRecipientId(recipientId);
+        message.setStatus(NotificationOutboxMessage.MessageStatus.PENDING);
+        message.setAttempts(0);
+        message.setNextAttemptAt(dueAt);
+        notificationOutboxRepository.save(message);
+    }
+}
@@ -0,0 +1,232 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.dto.NotificationOutboxMetricsDTO;
+import com.screening.interviews.model.*;
+import com.screening.interviews.repo.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers outbox rows through NotificationService. Each batch is claimed with SKIP LOCKED
+ * in its own transaction, so several instances can dispatch side by side, and the referenced
+ * approvals and offers are loaded with one query per type. Failed deliveries are retried with
+ * exponential backoff until {@code app.notifications.outbox.max-attempts}.
+ * <p>
+ * Approval requests claimed together are deduplicated: requests for the same step or for steps
+ * no longer awaiting that approver are dropped, and each remaining step gets one notification.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final OfferApprovalRepository offerApprovalRepository;
+    private final OfferLetterRepository offerLetterRepository;
+    private final NotificationService notificationService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.notifications.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.notifications.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.notifications.outbox.backoff-base-ms:2000}")
+    private long backoffBaseMs;
+
+    @Value("${app.notifications.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMs;
+
+    @Value("${app.notifications.outbox.retention-days:7}")
+    private int retentionDays;
+
+    private final LongAdder sentTotal = new LongAdder();
+    private final LongAdder failedTotal = new LongAdder();
+    private final LongAdder retriesScheduled = new LongAdder();
+    private final LongAdder coalescedTotal = new LongAdder();
+    private final LongAdder lagMillisTotal = new LongAdder();
+    private volatile LocalDateTime lastDispatchAt;
+
+    @Scheduled(fixedDelayString = "${app.notifications.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        while (true) {
+            Integer claimed;
+            try {
+                claimed = tx.execute(status -> dispatchBatch());
+            } catch (RuntimeException e) {
+                log.warn("Notification outbox batch failed: {}", e.getMessage());
+                return;
+            }
+            lastDispatchAt = LocalDateTime.now();
+            if (claimed == null || claimed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${app.notifications.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeSent() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Integer purged = tx.execute(status -> notificationOutboxRepository.deleteSentBefore(
+                NotificationOutboxMessage.MessageStatus.SENT, LocalDateTime.now().minusDays(retentionDays)));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} delivered outbox rows", purged);
+        }
+    }
+
+    public NotificationOutboxMetricsDTO getMetrics() {
+        NotificationOutboxMetricsDTO dto = new NotificationOutboxMetricsDTO();
+        dto.setPending(notificationOutboxRepository.countByStatus(NotificationOutboxMessage.MessageStatus.PENDING));
+        dto.setFailed(notificationOutboxRepository.countByStatus(NotificationOutboxMessage.MessageStatus.FAILED));
+        long sent = sentTotal.sum();
+        dto.setSentTotal(sent);
+        dto.setFailedTotal(failedTotal.sum());
+        dto.setRetriesScheduled(retriesScheduled.sum());
+        dto.setCoalescedTotal(coalescedTotal.sum());
+        dto.setAverageLagMs(sent > 0 ? (double) lagMillisTotal.sum() / sent : 0);
+        dto.setLastDispatchAt(lastDispatchAt);
+        return dto;
+    }
+
+    private int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutboxMessage> batch = notificationOutboxRepository.claimDue(
+                NotificationOutboxMessage.MessageStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> approvalIds = idsOf(batch, NotificationOutboxMessage.MessageType.APPROVAL_REQUEST);
+        Map<Long, OfferApproval> approvals = approvalIds.isEmpty() ? Map.of()
+                : offerApprovalRepository.findAllWithOfferByIdIn(approvalIds).stream()
+                .collect(Collectors.toMap(OfferApproval::getId, Function.identity()));
+        List<Long> offerIds = batch.stream()
+                .filter(m -> m.getType() != NotificationOutboxMessage.MessageType.APPROVAL_REQUEST)
+                .map(NotificationOutboxMessage::getAggregateId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, OfferLetter> offers = offerIds.isEmpty() ? Map.of()
+                : offerLetterRepository.findAllById(offerIds).stream()
+                .collect(Collectors.toMap(OfferLetter::getId, Function.identity()));
+
+        Map<Long, List<NotificationOutboxMessage>> byRecipient = new LinkedHashMap<>();
+        for (NotificationOutboxMessage message : batch) {
+            if (message.getType() == NotificationOutboxMessage.MessageType.APPROVAL_REQUEST
+                    && message.getRecipientId() != null) {
+                byRecipient.computeIfAbsent(message.getRecipientId(), k -> new ArrayList<>()).add(message);
+                continue;
+            }
+            try {
+                deliver(message, approvals, offers);
+                markSent(message);
+            } catch (RuntimeException e) {
+                recordFailure(message, e);
+            }
+            message.setAttempts(message.getAttempts() + 1);
+        }
+        byRecipient.forEach((recipientId, messages) -> deliverApprovalRequests(recipientId, messages, approvals));
+        return batch.size();
+    }
+
+    private void deliverApprovalRequests(Long recipientId, List<NotificationOutboxMessage> messages,
+                                         Map<Long, OfferApproval> approvals) {
+        Map<Long, List<NotificationOutboxMessage>> byStep = new LinkedHashMap<>();
+        for (NotificationOutboxMessage message : messages) {
+            OfferApproval approval = approvals.get(message.getAggregateId());
+            if (approval != null && awaits(approval, recipientId)) {
+                byStep.computeIfAbsent(approval.getId(), k -> new ArrayList<>()).add(message);
+            } else {
+                markSent(message);
+                coalescedTotal.increment();
+            }
+        }
+        // A failing step is retried without resending the others
+        for (Map.Entry<Long, List<NotificationOutboxMessage>> step : byStep.entrySet()) {
+            List<NotificationOutboxMessage> stepMessages = step.getValue();
+            try {
+                notificationService.sendApprovalNotification(approvals.get(step.getKey()));
+                stepMessages.forEach(this::markSent);
+                coalescedTotal.add(stepMessages.size() - 1);
+            } catch (RuntimeException e) {
+                stepMessages.forEach(message -> recordFailure(message, e));
+            }
+        }
+        messages.forEach(message -> message.setAttempts(message.getAttempts() + 1));
+    }
+
+    private void markSent(NotificationOutboxMessage message) {
+        message.setStatus(NotificationOutboxMessage.MessageStatus.SENT);
+        message.setSentAt(LocalDateTime.now());
+        message.setLastError(null);
+        sentTotal.increment();
+        if (message.getCreatedAt() != null) {
+            lagMillisTotal.add(Duration.between(message.getCreatedAt(), message.getSentAt()).toMillis());
+        }
+    }
+
+    private void deliver(NotificationOutboxMessage message, Map<Long, OfferApproval> approvals,
+                         Map<Long, OfferLetter> offers) {
+        switch (message.getType()) {
+            case APPROVAL_REQUEST -> notificationService.sendApprovalNotification(
+                    required(approvals.get(message.getAggregateId()), message));
+            case OFFER_TO_CANDIDATE -> notificationService.sendOfferToCandidate(
+                    required(offers.get(message.getAggregateId()), message));
+            case SIGNED_OFFER -> notificationService.sendSignedOfferNotification(
+                    required(offers.get(message.getAggregateId()), message));
+        }
+    }
+
+    private void recordFailure(NotificationOutboxMessage message, RuntimeException e) {
+        failedTotal.increment();
+        message.setLastError(e.getMessage());
+        if (message.getAttempts() + 1 >= maxAttempts) {
+            message.setStatus(NotificationOutboxMessage.MessageStatus.FAILED);
+            log.warn("Giving up on outbox message {} ({} {}) after {} attempts: {}", message.getId(),
+                    message.getType(), message.getAggregateId(), message.getAttempts() + 1, e.getMessage());
+            return;
+        }
+        long backoff = Math.min(backoffMaxMs, backoffBaseMs << Math.min(message.getAttempts(), 20));
+        message.setNextAttemptAt(LocalDateTime.now().plusNanos(backoff * 1_000_000));
+        retriesScheduled.increment();
+    }
+
+    // A step decided, reassigned or whose offer left approval since the request was queued needs no reminder
+    private static boolean awaits(OfferApproval approval, Long recipientId) {
+        return approval.getStatus() == OfferApproval.ApprovalStatus.PENDING
+                && recipientId.equals(approval.getApproverId())
+                && approval.getOffer().getStatus() == OfferLetter.OfferStatus.PENDING_APPROVAL;
+    }
+
+    private static <T> T required(T aggregate, NotificationOutboxMessage message) {
+        if (aggregate == null) {
+            throw new RuntimeException(message.getType() + " target " + message.getAggregateId() + " no longer exists");
+        }
+        return aggregate;
+    }
+
+    private static List<Long> idsOf(List<NotificationOutboxMessage> batch, NotificationOutboxMessage.MessageType type) {
+        return batch.stream()
+                .filter(m -> m.getType() == type)
+                .map(NotificationOutboxMessage::getAggregateId)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+}
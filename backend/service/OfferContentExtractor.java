@@ -0,0 +1,140 @@
+package com.screening.interviews.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.screening.interviews.model.OfferLetter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Copies the searchable fields out of the offerContent JSON into their own columns.
+ * Called wherever offer content is written, so reads never have to parse the JSON.
+ */
+@Component
+@RequiredArgsConstructor
+public class OfferContentExtractor {
+
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private static final String NUMBER = "(\\d[\\d,]*(?:\\.\\d+)*)";
+    private static final String UNIT =
+            "(?:\\s*(k|thousand|mn|million|m|lpa|lakhs?|lacs?|l|crores?|cr)\\b)?";
+    // First number with an optional unit, optionally followed by the upper end of a range
+    private static final Pattern AMOUNT = Pattern.compile(
+            NUMBER + UNIT + "(?:\\s*(?:-|–|to)\\s*\\D{0,3}?\\s*" + NUMBER + UNIT + ")?",
+            Pattern.CASE_INSENSITIVE);
+
+    private final ObjectMapper objectMapper;
+
+    public void apply(OfferLetter offer) {
+        Extracted extracted = extract(offer.getOfferContent());
+        offer.setCandidateName(extracted.candidateName());
+        offer.setPosition(extracted.position());
+        offer.setSalary(extracted.salary());
+        offer.setSalaryAmount(extracted.salaryAmount());
+        offer.setContentExtracted(true);
+    }
+
+    public Extracted extract(String offerContent) {
+        JsonNode content = parse(offerContent);
+        String salary = text(content, "salary");
+        return new Extracted(text(content, "candidateName"), text(content, "position"), salary, parseAmount(salary));
+    }
+
+    /**
+     * Reads the first amount in a free-text salary, e.g. "₹12 LPA", "1.5M", "80k - 95k" or
+     * "12,00,000 per annum". A range stores its lower bound; input that cannot be read as one
+     * amount (European "1.200.000", a range that runs backwards, overflow) yields null.
+     */
+    static Long parseAmount(String salary) {
+        if (salary == null) {
+            return null;
+        }
+        Matcher m = AMOUNT.matcher(salary);
+        if (!m.find()) {
+            return null;
+        }
+        BigDecimal lower = number(m.group(1));
+        if (lower == null) {
+            return null;
+        }
+        String lowerUnit = m.group(2);
+        if (m.group(3) != null) {
+            BigDecimal upper = number(m.group(3));
+            String upperUnit = m.group(4);
+            if (upper == null) {
+                return null;
+            }
+            // "12-15 LPA": the unit written once applies to both ends
+            BigDecimal low = lower.multiply(multiplier(lowerUnit != null ? lowerUnit : upperUnit));
+            BigDecimal high = upper.multiply(multiplier(upperUnit != null ? upperUnit : lowerUnit));
+            return low.compareTo(high) > 0 ? null : toLong(low);
+        }
+        return toLong(lower.multiply(multiplier(lowerUnit)));
+    }
+
+    private static BigDecimal number(String text) {
+        String digits = text.replace(",", "");
+        if (digits.indexOf('.') != digits.lastIndexOf('.')) {
+            return null;
+        }
+        return new BigDecimal(digits);
+    }
+
+    private static BigDecimal multiplier(String unit) {
+        if (unit == null) {
+            return BigDecimal.ONE;
+        }
+        String u = unit.toLowerCase(Locale.ROOT);
+        if (u.equals("k") || u.equals("thousand")) {
+            return BigDecimal.valueOf(1_000L);
+        }
+        if (u.startsWith("l")) { // l, lakh(s), lac(s), lpa
+            return BigDecimal.valueOf(100_000L);
+        }
+        if (u.startsWith("cr")) {
+            return BigDecimal.valueOf(10_000_000L);
+        }
+        return BigDecimal.valueOf(1_000_000L); // m, mn, million
+    }
+
+    private static Long toLong(BigDecimal amount) {
+        BigDecimal whole = amount.setScale(0, RoundingMode.DOWN);
+        return whole.precision() > 18 ? null : whole.longValue();
+    }
+
+    private JsonNode parse(String offerContent) {
+        if (offerContent == null || offerContent.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(offerContent);
+        } catch (Exception e) {
+            return null; // free-text content has nothing to extract
+        }
+    }
+
+    private static String text(JsonNode content, String field) {
+        if (content == null || !content.isObject()) {
+            return null;
+        }
+        JsonNode value = content.get(field);
+        if (value == null || value.isNull() || value.isContainerNode()) {
+            return null;
+        }
+        String text = value.asText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        return text.length() > MAX_COLUMN_LENGTH ? text.substring(0, MAX_COLUMN_LENGTH) : text;
+    }
+
+    public record Extracted(String candidateName, String position, String salary, Long salaryAmount) {
+    }
+}
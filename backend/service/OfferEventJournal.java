@@ -0,0 +1,274 @@
+package com.screening.interviews.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.screening.interviews.dto.OfferJournalEntryDTO;
+import com.screening.interviews.event.ApprovalReassignedEvent;
+import com.screening.interviews.event.ApprovalStatusChangedEvent;
+import com.screening.interviews.event.OfferStatusChangedEvent;
+import com.screening.interviews.event.OfferUpdatedEvent;
+import com.screening.interviews.model.OfferLetter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Append-only audit journal of offer events on local memory-mapped segment files (see
+ * OfferJournalSegment). Entries are appended after commit from the services' events, so the
+ * journal holds what actually happened, in commit order, and audit reads never touch the
+ * OLTP tables. Segments roll at {@code app.journal.segment-size}; on startup every segment
+ * is scanned once to rebuild the per-offer index, stopping at the first torn record.
+ * <p>
+ * The per-offer index keeps one packed long per entry: segment ordinal in the high word,
+ * byte offset in the low word.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OfferEventJournal {
+
+    public enum EntryType {
+        CREATED, UPDATED, SUBMITTED, APPROVAL_ACTION, APPROVAL_REASSIGNED,
+        READY_FOR_SIGN, SIGNED, REJECTED, STATUS_CHANGED
+    }
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.journal.dir:data/offer-journal}")
+    private String dir;
+
+    @Value("${app.journal.segment-size:64MB}")
+    private DataSize segmentSize;
+
+    // Mapped pages survive a process crash without this; set it to survive a host crash too
+    @Value("${app.journal.force-on-append:false}")
+    private boolean forceOnAppend;
+
+    @Value("${app.journal.max-page:1000}")
+    private int maxPage;
+
+    private final Object lock = new Object();
+    private final List<OfferJournalSegment> segments = new CopyOnWriteArrayList<>(); // by ordinal
+    private final NavigableMap<Long, Integer> ordinalByBaseSeq = new ConcurrentSkipListMap<>();
+    private final Map<Long, long[]> offerIndex = new HashMap<>(); // guarded by lock; slot 0 holds the count
+    private OfferJournalSegment active;
+    private long nextSeq = 1;
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path directory = Paths.get(dir);
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(p -> p.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+        for (Path file : files) {
+            int ordinal = segments.size();
+            OfferJournalSegment segment = OfferJournalSegment.open(file, (int) segmentSize.toBytes(),
+                    (seq, offerId, offset) -> index(offerId, ordinal, offset));
+            if (segment.baseSeq() != nextSeq && ordinal > 0) {
+                log.warn("Offer journal gap: expected segment at {}, found {}", nextSeq, file.getFileName());
+            }
+            register(segment);
+            nextSeq = Math.max(segment.nextSeq(), segment.baseSeq());
+        }
+        if (segments.isEmpty()) {
+            register(OfferJournalSegment.create(directory, nextSeq, (int) segmentSize.toBytes()));
+        }
+        active = segments.get(segments.size() - 1);
+        log.info("Offer journal opened with {} segments, next sequence {}", segments.size(), nextSeq);
+    }
+
+    @PreDestroy
+    void close() {
+        for (OfferJournalSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("Closing journal segment {} failed: {}", segment.path(), e.getMessage());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferStatusChanged(OfferStatusChangedEvent event) {
+        append(new OfferJournalEntryDTO(0, event.getOfferId(), typeOf(event).name(), event.getActorId(), null, null,
+                event.getPreviousStatus() != null ? event.getPreviousStatus().name() : null,
+                event.getNewStatus().name(), event.getOccurredAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOfferUpdated(OfferUpdatedEvent event) {
+        append(new OfferJournalEntryDTO(0, event.getOfferId(), EntryType.UPDATED.name(), event.getActorId(), null, null,
+                null, null, event.getOccurredAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalStatusChanged(ApprovalStatusChangedEvent event) {
+        if (event.getPreviousStatus() == null) {
+            return; // step created with the workflow; the SUBMITTED entry covers it
+        }
+        append(new OfferJournalEntryDTO(0, event.getOfferId(), EntryType.APPROVAL_ACTION.name(), event.getActorId(),
+                event.getApprovalId(), event.getApproverId(), event.getPreviousStatus().name(),
+                event.getNewStatus().name(), event.getOccurredAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovalReassigned(ApprovalReassignedEvent event) {
+        append(new OfferJournalEntryDTO(0, event.getOfferId(), EntryType.APPROVAL_REASSIGNED.name(),
+                event.getActorId(), event.getApprovalId(), event.getNewApproverId(), null, null,
+                event.getOccurredAt()));
+    }
+
+    /** Entries with a sequence number of at least {@code fromSeq}, oldest first. */
+    public List<OfferJournalEntryDTO> replay(long fromSeq, int limit) {
+        int pageSize = Math.max(0, Math.min(limit, maxPage));
+        List<OfferJournalEntryDTO> entries = new ArrayList<>(Math.min(pageSize, 64));
+        Map.Entry<Long, Integer> start = ordinalByBaseSeq.floorEntry(fromSeq);
+        int ordinal = start != null ? start.getValue() : 0;
+        for (; ordinal < segments.size() && entries.size() < pageSize; ordinal++) {
+            OfferJournalSegment segment = segments.get(ordinal);
+            OfferJournalSegment.Entry entry = segment.read(segment.offsetOf(fromSeq));
+            while (entry != null && entries.size() < pageSize) {
+                entries.add(decode(entry));
+                entry = segment.read(entry.nextOffset());
+            }
+        }
+        return entries;
+    }
+
+    /** The most recent {@code limit} entries, oldest first. */
+    public List<OfferJournalEntryDTO> tail(int limit) {
+        int pageSize = Math.max(0, Math.min(limit, maxPage));
+        long last;
+        synchronized (lock) {
+            last = nextSeq - 1;
+        }
+        return replay(Math.max(1, last - pageSize + 1), pageSize);
+    }
+
+    /** Every journal entry of one offer, oldest first, read through the per-offer index. */
+    public List<OfferJournalEntryDTO> history(Long offerId) {
+        long[] addresses;
+        synchronized (lock) {
+            long[] slots = offerIndex.get(offerId);
+            if (slots == null) {
+                return List.of();
+            }
+            addresses = Arrays.copyOfRange(slots, 1, (int) slots[0] + 1);
+        }
+        List<OfferJournalEntryDTO> entries = new ArrayList<>(addresses.length);
+        for (long address : addresses) {
+            OfferJournalSegment segment = segments.get((int) (address >>> 32));
+            entries.add(decode(segment.read((int) address)));
+        }
+        return entries;
+    }
+
+    public long getLastSequence() {
+        synchronized (lock) {
+            return nextSeq - 1;
+        }
+    }
+
+    private void append(OfferJournalEntryDTO entry) {
+        if (active == null) {
+            return;
+        }
+        try {
+            synchronized (lock) {
+                entry.setSequence(nextSeq);
+                byte[] payload = objectMapper.writeValueAsBytes(entry);
+                int offset = active.append(nextSeq, entry.getOfferId(), payload);
+                if (offset < 0) {
+                    roll();
+                    offset = active.append(nextSeq, entry.getOfferId(), payload);
+                    if (offset < 0) {
+                        throw new IllegalStateException("Journal entry of " + payload.length + " bytes exceeds the segment size");
+                    }
+                }
+                index(entry.getOfferId(), segments.size() - 1, offset);
+                nextSeq++;
+                if (forceOnAppend) {
+                    active.force();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // The business change is already committed; a journal failure must not surface to the caller
+            log.error("Offer journal append failed for offer {} ({}): {}", entry.getOfferId(), entry.getType(),
+                    e.getMessage());
+        }
+    }
+
+    private void roll() throws IOException {
+        active.force();
+        register(OfferJournalSegment.create(Paths.get(dir), nextSeq, (int) segmentSize.toBytes()));
+        active = segments.get(segments.size() - 1);
+        log.info("Offer journal rolled to segment {}", active.path().getFileName());
+    }
+
+    private void register(OfferJournalSegment segment) {
+        segments.add(segment);
+        ordinalByBaseSeq.put(segment.baseSeq(), segments.size() - 1);
+    }
+
+    private void index(long offerId, int ordinal, int offset) {
+        long[] slots = offerIndex.get(offerId);
+        if (slots == null) {
+            slots = new long[4];
+        } else if (slots[0] + 1 == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        slots[(int) ++slots[0]] = ((long) ordinal << 32) | (offset & 0xFFFFFFFFL);
+        offerIndex.put(offerId, slots);
+    }
+
+    private OfferJournalEntryDTO decode(OfferJournalSegment.Entry entry) {
+        try {
+            return objectMapper.readValue(entry.payload(), OfferJournalEntryDTO.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt offer journal entry " + entry.seq(), e);
+        }
+    }
+
+    private static EntryType typeOf(OfferStatusChangedEvent event) {
+        if (event.getPreviousStatus() == null) {
+            return EntryType.CREATED;
+        }
+        if (event.getPreviousStatus() == OfferLetter.OfferStatus.DRAFT
+                && event.getNewStatus() == OfferLetter.OfferStatus.PENDING_APPROVAL) {
+            return EntryType.SUBMITTED;
+        }
+        return switch (event.getNewStatus()) {
+            case READY_FOR_SIGN -> EntryType.READY_FOR_SIGN;
+            case SIGNED -> EntryType.SIGNED;
+            case REJECTED -> EntryType.REJECTED;
+            default -> EntryType.STATUS_CHANGED;
+        };
+    }
+}
@@ -0,0 +1,184 @@
+package com.screening.interviews.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped journal file holding consecutive sequence numbers from {@code baseSeq}.
+ * Records are laid out as
+ * <pre>
+ * int length | int crc32c | long seq | long offerId | byte[length] payload
+ * </pre>
+ * with the CRC covering seq, offerId and payload. The length is written last, so a record
+ * torn by a crash fails its CRC or sequence check on recovery and the segment ends there.
+ * Appends are single-writer (the journal's lock); reads use absolute access and never look
+ * past the committed end, so they need no lock.
+ */
+final class OfferJournalSegment implements Closeable {
+
+    static final int HEADER_BYTES = 24;
+    private static final int SPARSE_EVERY = 256; // offset of every 256th record, for seq lookups
+
+    record Entry(long seq, long offerId, byte[] payload, int nextOffset) {
+    }
+
+    interface RecordVisitor {
+        void visit(long seq, long offerId, int offset);
+    }
+
+    private final Path path;
+    private final long baseSeq;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private volatile int committed;
+    private long nextSeq;
+    private int[] sparse = new int[16];
+    private int sparseCount;
+
+    private OfferJournalSegment(Path path, long baseSeq, FileChannel channel, int capacity) throws IOException {
+        this.path = path;
+        this.baseSeq = baseSeq;
+        this.channel = channel;
+        this.capacity = capacity;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        this.nextSeq = baseSeq;
+    }
+
+    static OfferJournalSegment create(Path dir, long baseSeq, int capacity) throws IOException {
+        Path path = dir.resolve(fileName(baseSeq));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new OfferJournalSegment(path, baseSeq, channel, capacity);
+    }
+
+    /** Maps an existing segment and scans it up to the last intact record. */
+    static OfferJournalSegment open(Path path, int capacity, RecordVisitor visitor) throws IOException {
+        long baseSeq = Long.parseLong(path.getFileName().toString().replace(".seg", ""));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // A segment written with a larger segment size keeps its own size
+        int size = (int) Math.max(channel.size(), capacity);
+        OfferJournalSegment segment = new OfferJournalSegment(path, baseSeq, channel, size);
+        segment.recover(visitor);
+        return segment;
+    }
+
+    static String fileName(long baseSeq) {
+        return String.format("%020d.seg", baseSeq);
+    }
+
+    long baseSeq() {
+        return baseSeq;
+    }
+
+    long nextSeq() {
+        return nextSeq;
+    }
+
+    int committed() {
+        return committed;
+    }
+
+    /** Returns the record's offset, or -1 when it does not fit and the journal must roll. */
+    int append(long seq, long offerId, byte[] payload) {
+        int offset = committed;
+        if ((long) offset + HEADER_BYTES + payload.length > capacity) {
+            return -1;
+        }
+        buffer.putLong(offset + 8, seq);
+        buffer.putLong(offset + 16, offerId);
+        buffer.put(offset + HEADER_BYTES, payload);
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + 8, 16 + payload.length));
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.putInt(offset, payload.length);
+
+        if ((seq - baseSeq) % SPARSE_EVERY == 0) {
+            addSparse(offset);
+        }
+        nextSeq = seq + 1;
+        committed = offset + HEADER_BYTES + payload.length;
+        return offset;
+    }
+
+    /** Reads the record at {@code offset}, or null at the committed end. */
+    Entry read(int offset) {
+        if (offset >= committed) {
+            return null;
+        }
+        int length = buffer.getInt(offset);
+        byte[] payload = new byte[length];
+        buffer.get(offset + HEADER_BYTES, payload);
+        return new Entry(buffer.getLong(offset + 8), buffer.getLong(offset + 16), payload,
+                offset + HEADER_BYTES + length);
+    }
+
+    /** Offset of the first record with a sequence number of at least {@code seq}. */
+    int offsetOf(long seq) {
+        if (seq <= baseSeq) {
+            return 0;
+        }
+        int end = committed; // volatile read first: publishes the sparse index written before it
+        int slot = (int) Math.min((seq - baseSeq) / SPARSE_EVERY, sparseCount - 1L);
+        int offset = slot < 0 ? 0 : sparse[slot];
+        while (offset < end && buffer.getLong(offset + 8) < seq) {
+            offset += HEADER_BYTES + buffer.getInt(offset);
+        }
+        return offset;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    Path path() {
+        return path;
+    }
+
+    private void recover(RecordVisitor visitor) {
+        int offset = 0;
+        long expected = baseSeq;
+        while ((long) offset + HEADER_BYTES <= capacity) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || (long) offset + HEADER_BYTES + length > capacity) {
+                break;
+            }
+            long seq = buffer.getLong(offset + 8);
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(offset + 8, 16 + length));
+            if (seq != expected || (int) crc.getValue() != buffer.getInt(offset + 4)) {
+                break;
+            }
+            if ((seq - baseSeq) % SPARSE_EVERY == 0) {
+                addSparse(offset);
+            }
+            visitor.visit(seq, buffer.getLong(offset + 16), offset);
+            offset += HEADER_BYTES + length;
+            expected++;
+        }
+        committed = offset;
+        nextSeq = expected;
+        if ((long) offset + 4 <= capacity) {
+            buffer.putInt(offset, 0); // cut off a torn tail so it is never mistaken for a record
+        }
+    }
+
+    private void addSparse(int offset) {
+        if (sparseCount == sparse.length) {
+            sparse = Arrays.copyOf(sparse, sparseCount * 2);
+        }
+        sparse[sparseCount++] = offset;
+    }
+}
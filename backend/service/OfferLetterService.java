@@ -1,24 +1,75 @@
 package com.screening.interviews.service;
 
 import com.screening.interviews.dto.*;
+import com.screening.interviews.event.OfferEventPublisher;
 import com.screening.interviews.model.*;
 import com.screening.interviews.repo.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class OfferLetterService {
 
+    // fields= names exposed by the offer endpoints, mapped to entity attributes
+    private static final Map<String, String> OFFER_FIELDS = Map.ofEntries(
+            Map.entry("id", "id"),
+            Map.entry("candidateId", "candidateId"),
+            Map.entry("createdBy", "createdBy"),
+            Map.entry("status", "status"),
+            Map.entry("offerContent", "offerContent"),
+            Map.entry("signedPdfUrl", "signedPdfUrl"),
+            Map.entry("candidateName", "candidateName"),
+            Map.entry("position", "position"),
+            Map.entry("salary", "salary"),
+            Map.entry("totalApprovals", "totalApprovals"),
+            Map.entry("pendingApprovals", "pendingApprovals"),
+            Map.entry("currentApprovalOrder", "currentApprovalOrder"),
+            Map.entry("createdAt", "createdAt"),
+            Map.entry("updatedAt", "updatedAt"));
+
+    private static final Set<String> OFFER_INCLUDES = Set.of("approvals", "signature");
+
     private final OfferLetterRepository offerLetterRepository;
+    private final SignatureRepository signatureRepository;
+    private final SparseFieldQuery sparseFieldQuery;
     private final ApprovalService approvalService;
-    private final NotificationService notificationService;
+    private final NotificationOutbox notificationOutbox;
     private final OfferTemplateService offerTemplateService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final OfferEventPublisher offerEventPublisher;
+    private final OfferContentExtractor offerContentExtractor;
+
+    @Value("${app.offers.export.clear-every:1000}")
+    private int exportClearEvery;
+
+    @PostConstruct
+    void validateExportSettings() {
+        // Fail at startup rather than with an ArithmeticException halfway through a stream
+        if (exportClearEvery < 1) {
+            throw new IllegalStateException("app.offers.export.clear-every must be at least 1, was " + exportClearEvery);
+        }
+    }
 
     public OfferLetterDTO createOffer(CreateOfferRequest request, Long createdById) {
         OfferLetter offer = new OfferLetter();
@@ -26,8 +77,10 @@ public class OfferLetterService {
         offer.setCreatedBy(createdById);
         offer.setOfferContent(request.getOfferContent());
         offer.setStatus(OfferLetter.OfferStatus.DRAFT);
+        offerContentExtractor.apply(offer);
 
         offer = offerLetterRepository.save(offer);
+        offerEventPublisher.offerStatusChanged(offer, null, createdById);
 
         return convertToDTO(offer);
     }
@@ -41,9 +94,12 @@ public class OfferLetterService {
         offer.setCandidateId(request.getCandidateId());
         offer.setCreatedBy(createdById);
         offer.setOfferContent(processedContent);
+        offer.setTemplateCategory(offerTemplateService.getTemplate(request.getTemplateId()).getCategory());
         offer.setStatus(OfferLetter.OfferStatus.DRAFT);
+        offerContentExtractor.apply(offer);
 
         offer = offerLetterRepository.save(offer);
+        offerEventPublisher.offerStatusChanged(offer, null, createdById);
 
         return convertToDTO(offer);
     }
@@ -56,7 +112,9 @@ public class OfferLetterService {
         }
 
         offer.setOfferContent(request.getOfferContent());
+        offerContentExtractor.apply(offer);
         offer = offerLetterRepository.save(offer);
+        offerEventPublisher.offerUpdated(offer, updatedById);
 
         return convertToDTO(offer);
     }
@@ -71,12 +129,13 @@ public class OfferLetterService {
 
         offer.setStatus(OfferLetter.OfferStatus.PENDING_APPROVAL);
         offer = offerLetterRepository.save(offer);
+        offerEventPublisher.offerStatusChanged(offer, OfferLetter.OfferStatus.DRAFT, submitterId);
 
         // Initialize approval workflow with provided approvers
         if (workflowRequest != null && workflowRequest.getApprovalSteps() != null) {
             approvalService.initializeCustomApprovalWorkflow(offer, workflowRequest.getApprovalSteps());
         } else {
-            approvalService.initializeDefaultApprovalWorkflow(offer);
+            approvalService.initializeDefaultApprovalWorkflow(offer, submitterRole);
         }
 
         return convertToDTO(offer);
@@ -87,44 +146,179 @@ public class OfferLetterService {
         return convertToDTO(offer);
     }
 
+    /**
+     * Returns only the requested columns of one offer, plus any requested associations.
+     * Without {@code fields} every column is returned; associations are loaded only when
+     * named in {@code include}.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getOfferFields(Long offerId, Set<String> fields, Set<String> include) {
+        if (include != null) {
+            include.stream()
+                    .filter(name -> !OFFER_INCLUDES.contains(name))
+                    .findFirst()
+                    .ifPresent(name -> {
+                        throw new RuntimeException("Unknown include: " + name);
+                    });
+        }
+
+        List<Map<String, Object>> rows = sparseFieldQuery.select(OfferLetter.class, OFFER_FIELDS,
+                fields != null ? fields : OFFER_FIELDS.keySet(),
+                (cb, root) -> cb.equal(root.get("id"), offerId), null);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Offer not found");
+        }
+
+        Map<String, Object> offer = rows.get(0);
+        if (include != null && include.contains("approvals")) {
+            offer.put("approvals", approvalService.getOfferApprovals(offerId));
+        }
+        if (include != null && include.contains("signature")) {
+            offer.put("signature", signatureRepository.findSummaryByOfferId(offerId)
+                    .map(this::convertSignatureSummary)
+                    .orElse(null));
+        }
+        return offer;
+    }
+
+    /** Sparse list variant of the summary endpoints; at most one of the filters is set. */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> listOfferFields(OfferLetter.OfferStatus status, Long createdById,
+                                                     Set<String> fields) {
+        return sparseFieldQuery.select(OfferLetter.class, OFFER_FIELDS, fields, (cb, root) ->
+                status != null ? cb.equal(root.get("status"), status)
+                        : createdById != null ? cb.equal(root.get("createdBy"), createdById)
+                        : cb.conjunction(), "id");
+    }
+
+    @Transactional(readOnly = true)
+    public OfferLetterRepository.VersionStamp getOfferVersionStamp(Long offerId) {
+        return offerLetterRepository.findVersionStampById(offerId)
+                .orElseThrow(() -> new RuntimeException("Offer not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public OfferLetterRepository.ListStamp getOfferListStamp(OfferLetter.OfferStatus status, Long createdById) {
+        if (status != null) {
+            return offerLetterRepository.findListStampByStatus(status);
+        }
+        if (createdById != null) {
+            return offerLetterRepository.findListStampByCreatedBy(createdById);
+        }
+        return offerLetterRepository.findListStamp();
+    }
+
+    @Transactional(readOnly = true)
     public List<OfferSummaryDTO> getAllOffers() {
-        return offerLetterRepository.findAll().stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return offerLetterRepository.findAllSummaries();
     }
 
+    @Transactional(readOnly = true)
     public List<OfferSummaryDTO> getOffersByStatus(OfferLetter.OfferStatus status) {
-        return offerLetterRepository.findByStatus(status).stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return offerLetterRepository.findSummariesByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<OfferSummaryDTO> getOffersByCreator(Long createdById) {
-        return offerLetterRepository.findByCreatedBy(createdById).stream()
-                .map(this::convertToSummaryDTO)
-                .collect(Collectors.toList());
+        return offerLetterRepository.findSummariesByCreatedBy(createdById);
+    }
+
+    /**
+     * Searches the extracted candidateName/position columns. PREFIX matches the start of either
+     * field; FULL_TEXT matches whole words anywhere in them. Filters are optional.
+     */
+    @Transactional(readOnly = true)
+    public OfferSearchResultDTO searchOffers(String query, String mode, OfferLetter.OfferStatus status,
+                                             Long createdBy, Long minSalary, Long maxSalary,
+                                             int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("Search query is required");
+        }
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+        String statusName = status != null ? status.name() : null;
+
+        Slice<OfferLetterRepository.OfferSearchRow> rows;
+        if ("FULL_TEXT".equalsIgnoreCase(mode)) {
+            rows = offerLetterRepository.searchFullText(query.trim(), statusName, createdBy,
+                    minSalary, maxSalary, pageable);
+        } else {
+            String prefix = query.trim().toLowerCase()
+                    .replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_") + "%";
+            rows = offerLetterRepository.searchByPrefix(prefix, statusName, createdBy,
+                    minSalary, maxSalary, pageable);
+        }
+
+        OfferSearchResultDTO result = new OfferSearchResultDTO();
+        result.setItems(rows.getContent().stream()
+                .map(this::convertSearchRowToSummaryDTO)
+                .collect(Collectors.toList()));
+        result.setPage(pageable.getPageNumber());
+        result.setSize(pageable.getPageSize());
+        result.setHasNext(rows.hasNext());
+        return result;
+    }
+
+    /**
+     * Writes every offer as one JSON object per line. Rows come from a database cursor and the
+     * persistence context is cleared periodically, so memory stays flat regardless of table size.
+     */
+    @Transactional(readOnly = true)
+    public long exportOffersAsNdjson(OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<OfferLetter> offers = offerLetterRepository.streamAllOrderById();
+             SequenceWriter writer = objectMapper.writer()
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            Iterator<OfferLetter> it = offers.iterator();
+            while (it.hasNext()) {
+                OfferLetter offer = it.next();
+                writer.write(convertToExportDTO(offer));
+
+                if (++written % exportClearEvery == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+            if (written > 0) {
+                writer.flush();
+                out.write('\n');
+            }
+        }
+        return written;
     }
 
     public void markOfferReadyForSignature(Long offerId) {
         OfferLetter offer = getOfferEntity(offerId);
+        OfferLetter.OfferStatus previousStatus = offer.getStatus();
         offer.setStatus(OfferLetter.OfferStatus.READY_FOR_SIGN);
+        offer.setPendingApprovals(0);
+        offer.setCurrentApprovalOrder(null);
         offerLetterRepository.save(offer);
+        offerEventPublisher.offerStatusChanged(offer, previousStatus, null);
 
         // Send notification to candidate
-        notificationService.sendOfferToCandidate(offer);
+        notificationOutbox.offerToCandidate(offer);
     }
 
     public void markOfferSigned(Long offerId, String signedPdfUrl) {
         OfferLetter offer = getOfferEntity(offerId);
+        OfferLetter.OfferStatus previousStatus = offer.getStatus();
         offer.setStatus(OfferLetter.OfferStatus.SIGNED);
         offer.setSignedPdfUrl(signedPdfUrl);
         offerLetterRepository.save(offer);
+        offerEventPublisher.offerStatusChanged(offer, previousStatus, null);
     }
 
     public void markOfferRejected(Long offerId, String reason) {
         OfferLetter offer = getOfferEntity(offerId);
+        OfferLetter.OfferStatus previousStatus = offer.getStatus();
         offer.setStatus(OfferLetter.OfferStatus.REJECTED);
+        offer.setPendingApprovals(0);
+        offer.setCurrentApprovalOrder(null);
         offerLetterRepository.save(offer);
+        offerEventPublisher.offerStatusChanged(offer, previousStatus, null);
     }
 
     private OfferLetter getOfferEntity(Long offerId) {
@@ -152,6 +346,35 @@ public class OfferLetterService {
         return dto;
     }
 
+    private OfferSummaryDTO convertSearchRowToSummaryDTO(OfferLetterRepository.OfferSearchRow row) {
+        OfferSummaryDTO dto = new OfferSummaryDTO();
+        dto.setId(row.getId());
+        dto.setCandidateId(row.getCandidateId());
+        dto.setStatus(OfferLetter.OfferStatus.valueOf(row.getStatus()));
+        dto.setCreatedBy(row.getCreatedBy());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setTotalApprovalsCount(row.getTotalApprovals() != null ? row.getTotalApprovals() : 0);
+        dto.setPendingApprovalsCount(row.getPendingApprovals() != null ? row.getPendingApprovals() : 0);
+        dto.setCandidateName(row.getCandidateName());
+        dto.setPosition(row.getPosition());
+        dto.setSalary(row.getSalary());
+        return dto;
+    }
+
+    // Export rows skip the approvals association; touching it would issue one query per offer.
+    private OfferLetterDTO convertToExportDTO(OfferLetter offer) {
+        OfferLetterDTO dto = new OfferLetterDTO();
+        dto.setId(offer.getId());
+        dto.setCandidateId(offer.getCandidateId());
+        dto.setCreatedBy(offer.getCreatedBy());
+        dto.setStatus(offer.getStatus());
+        dto.setOfferContent(offer.getOfferContent());
+        dto.setSignedPdfUrl(offer.getSignedPdfUrl());
+        dto.setCreatedAt(offer.getCreatedAt());
+        dto.setUpdatedAt(offer.getUpdatedAt());
+        return dto;
+    }
+
     private OfferApprovalDTO convertApprovalToDTO(OfferApproval approval) {
         OfferApprovalDTO dto = new OfferApprovalDTO();
         dto.setId(approval.getId());
@@ -165,21 +388,13 @@ public class OfferLetterService {
         return dto;
     }
 
-    private OfferSummaryDTO convertToSummaryDTO(OfferLetter offer) {
-        OfferSummaryDTO dto = new OfferSummaryDTO();
-        dto.setId(offer.getId());
-        dto.setCandidateId(offer.getCandidateId());
-        dto.setStatus(offer.getStatus());
-        dto.setCreatedBy(offer.getCreatedBy());
-        dto.setCreatedAt(offer.getCreatedAt());
-
-        if (offer.getApprovals() != null) {
-            dto.setTotalApprovalsCount(offer.getApprovals().size());
-            dto.setPendingApprovalsCount((int) offer.getApprovals().stream()
-                    .filter(a -> a.getStatus() == OfferApproval.ApprovalStatus.PENDING)
-                    .count());
-        }
-
+    private Map<String, Object> convertSignatureSummary(SignatureRepository.SignatureSummary signature) {
+        Map<String, Object> dto = new LinkedHashMap<>();
+        dto.put("id", signature.getId());
+        dto.put("candidateId", signature.getCandidateId());
+        dto.put("signatureType", signature.getSignatureType());
+        dto.put("signedAt", signature.getSignedAt());
+        dto.put("docHash", signature.getDocHash());
         return dto;
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,13 @@ package com.screening.interviews.service;
 import com.screening.interviews.dto.*;
 import com.screening.interviews.model.*;
 import com.screening.interviews.repo.*;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -15,6 +20,8 @@ import java.util.stream.Collectors;
 public class OfferTemplateService {
 
     private final OfferTemplateRepository offerTemplateRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TemplateEngine templateEngine;
 
     public OfferTemplateDTO createTemplate(CreateTemplateRequest request, Long createdById) {
         OfferTemplate template = new OfferTemplate();
@@ -26,6 +33,7 @@ public class OfferTemplateService {
         template.setIsActive(true);
 
         template = offerTemplateRepository.save(template);
+        evictTemplateCaches(null);
         return convertToDTO(template);
     }
 
@@ -44,6 +52,7 @@ public class OfferTemplateService {
         template.setCategory(request.getCategory());
 
         template = offerTemplateRepository.save(template);
+        evictTemplateCaches(templateId);
         return convertToDTO(template);
     }
 
@@ -53,22 +62,19 @@ public class OfferTemplateService {
         return convertToDTO(template);
     }
 
-    public List<OfferTemplateDTO> getAllActiveTemplates() {
-        return offerTemplateRepository.findByIsActiveTrue().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<OfferTemplateSummaryDTO> getAllActiveTemplates() {
+        return offerTemplateRepository.findActiveSummaries();
     }
 
-    public List<OfferTemplateDTO> getTemplatesByCategory(String category) {
-        return offerTemplateRepository.findByCategoryAndIsActiveTrue(category).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<OfferTemplateSummaryDTO> getTemplatesByCategory(String category) {
+        return offerTemplateRepository.findActiveSummariesByCategory(category);
     }
 
-    public List<OfferTemplateDTO> getMyTemplates(Long createdById) {
-        return offerTemplateRepository.findByCreatedByAndIsActiveTrue(createdById).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<OfferTemplateSummaryDTO> getMyTemplates(Long createdById) {
+        return offerTemplateRepository.findActiveSummariesByCreatedBy(createdById);
     }
 
     public void deactivateTemplate(Long templateId, Long userId) {
@@ -82,22 +88,87 @@ public class OfferTemplateService {
 
         template.setIsActive(false);
         offerTemplateRepository.save(template);
+        evictTemplateCaches(templateId);
     }
 
     public String processTemplateWithCustomizations(Long templateId, String customizations) {
         OfferTemplate template = offerTemplateRepository.findById(templateId)
                 .orElseThrow(() -> new RuntimeException("Template not found"));
 
-        String processedContent = template.getTemplateContent();
+        // Replace {{placeholder}} slots with values from the customizations JSON
+        return templateEngine.render(template, customizations);
+    }
+
+    @Transactional(readOnly = true)
+    public OfferTemplateRepository.ListStamp getActiveTemplatesStamp(String category, Long createdById) {
+        if (category != null) {
+            return offerTemplateRepository.findActiveListStampByCategory(category);
+        }
+        if (createdById != null) {
+            return offerTemplateRepository.findActiveListStampByCreatedBy(createdById);
+        }
+        return offerTemplateRepository.findActiveListStamp();
+    }
+
+    /** A compiled template together with the category its offers are filed under. */
+    public record PreparedTemplate(CompiledTemplate compiled, String category) {
+    }
+
+    @Transactional(readOnly = true)
+    public PreparedTemplate prepareTemplate(Long templateId) {
+        OfferTemplate template = offerTemplateRepository.findById(templateId)
+                .orElseThrow(() -> new RuntimeException("Template not found"));
+        return new PreparedTemplate(templateEngine.compile(template), template.getCategory());
+    }
+
+    // Same rendering as processTemplateWithCustomizations, for callers that compiled the template once.
+    // Pure CPU work, so it stays out of the class-level transaction.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String processCompiledTemplate(CompiledTemplate template, String customizations) {
+        return templateEngine.render(template, templateEngine.parseCustomizations(customizations),
+                templateEngine.getMissingKeyPolicy());
+    }
+
+    // Counters of the template regions only; the global second-level cache totals mix in every cached entity
+    @Transactional(readOnly = true)
+    public TemplateCacheStatsDTO getCacheStatistics() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TemplateCacheStatsDTO dto = new TemplateCacheStatsDTO();
+        dto.setStatisticsEnabled(stats.isStatisticsEnabled());
+        CacheRegionStatistics entityRegion = entityRegionStatistics(stats);
+        if (entityRegion != null) {
+            dto.setEntityHitCount(entityRegion.getHitCount());
+            dto.setEntityMissCount(entityRegion.getMissCount());
+            dto.setEntityPutCount(entityRegion.getPutCount());
+        }
+        // Null until the first cacheable template query has run, or with the query cache off
+        CacheRegionStatistics queryRegion = stats.getQueryRegionStatistics(OfferTemplateRepository.QUERY_CACHE_REGION);
+        if (queryRegion != null) {
+            dto.setQueryHitCount(queryRegion.getHitCount());
+            dto.setQueryMissCount(queryRegion.getMissCount());
+            dto.setQueryPutCount(queryRegion.getPutCount());
+        }
+        return dto;
+    }
 
-        // Process customizations if provided
-        if (customizations != null && !customizations.isEmpty()) {
-            // Parse JSON customizations and replace placeholders
-            // Implementation would parse JSON and replace {{placeholder}} with actual values
-            // For now, returning template content as-is
+    // Hibernate rejects unknown region names, which is the case when the second-level cache is off
+    private static CacheRegionStatistics entityRegionStatistics(Statistics stats) {
+        try {
+            return stats.getDomainDataRegionStatistics(OfferTemplate.CACHE_REGION);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
+    }
 
-        return processedContent;
+    // Hibernate also invalidates these regions on commit; evicting here keeps the
+    // updateTemplate/deactivateTemplate contract explicit.
+    private void evictTemplateCaches(Long templateId) {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (templateId != null) {
+            cache.evictEntityData(OfferTemplate.class, templateId);
+            templateEngine.evict(templateId);
+        }
+        cache.evictQueryRegion(OfferTemplateRepository.QUERY_CACHE_REGION);
     }
 
     private OfferTemplateDTO convertToDTO(OfferTemplate template) {
@@ -0,0 +1,62 @@
+package com.screening.interviews.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work in its own transaction and re-runs it when a {@code @Version} check
+ * fails at flush or commit. Each attempt re-reads its entities, so the work must derive
+ * everything from what it loads rather than from state captured before the first attempt.
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.approvals.optimistic-retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.approvals.optimistic-retry.backoff-ms:10}")
+    private long backoffMs;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("{} gave up after {} concurrent update conflicts", operation, attempt);
+                    throw new RuntimeException(operation + " conflicted with concurrent updates, please retry", e);
+                }
+                log.debug("{} hit a concurrent update (attempt {}), retrying", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        // Jittered linear backoff so colliding approvers do not retry in lockstep
+        long delay = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while retrying a concurrent update", e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.screening.interviews.service;
+
+import io.minio.GetObjectArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Drawn signature images in object storage. The canvas data URL posted by the client is
+ * decoded once, cropped to the ink, scaled down to {@code app.signatures.image.max-width}
+ * and re-encoded as a grayscale PNG, so the signature row only keeps the object name.
+ */
+@Service
+@RequiredArgsConstructor
+public class SignatureImageStore {
+
+    private static final int INK_THRESHOLD = 250; // luminance below this counts as ink
+    private static final int PADDING = 8;
+
+    @Value("${minio.bucket.offers:offer-pdfs}")
+    private String minioBucket;
+
+    @Value("${app.signatures.image.max-width:600}")
+    private int maxWidth;
+
+    @Value("${app.signatures.image.max-upload-bytes:2097152}")
+    private int maxUploadBytes;
+
+    private final MinioClient minioClient;
+
+    /** Normalizes the posted image and uploads it; returns the object name to keep on the signature. */
+    public String store(Long offerId, String signatureData) {
+        byte[] png = normalize(signatureData);
+        String objectName = "signatures/offer_" + offerId + "_" + UUID.randomUUID() + ".png";
+        try {
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(minioBucket)
+                            .object(objectName)
+                            .stream(new ByteArrayInputStream(png), png.length, -1)
+                            .contentType("image/png")
+                            .build()
+            );
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to upload signature image to MinIO: " + e.getMessage(), e);
+        }
+        return objectName;
+    }
+
+    public byte[] load(String objectName) {
+        try (InputStream inputStream = minioClient.getObject(
+                GetObjectArgs.builder()
+                        .bucket(minioBucket)
+                        .object(objectName)
+                        .build())) {
+            return inputStream.readAllBytes();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to download signature image from MinIO: " + e.getMessage(), e);
+        }
+    }
+
+    /** Decodes an image kept inline on the signature row, byte for byte as the client sent it. */
+    public byte[] decodeInline(String signatureData) {
+        if (signatureData == null || signatureData.isBlank()) {
+            throw new RuntimeException("Signature has no drawn image");
+        }
+        try {
+            return Base64.getMimeDecoder().decode(stripDataUrl(signatureData));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Signature image could not be decoded");
+        }
+    }
+
+    byte[] normalize(String signatureData) {
+        if (signatureData == null || signatureData.isBlank()) {
+            throw new RuntimeException("Drawn signature image is required");
+        }
+        String base64 = stripDataUrl(signatureData);
+        if (base64.length() > maxUploadBytes / 3 * 4 + 4) {
+            throw new RuntimeException("Signature image is too large");
+        }
+
+        BufferedImage source;
+        try {
+            source = ImageIO.read(new ByteArrayInputStream(Base64.getMimeDecoder().decode(base64)));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new RuntimeException("Signature image could not be decoded");
+        }
+        if (source == null) {
+            throw new RuntimeException("Signature image format is not supported");
+        }
+
+        BufferedImage flattened = flatten(source);
+        int[] bounds = inkBounds(flattened);
+        if (bounds == null) {
+            throw new RuntimeException("Signature image is empty");
+        }
+        int x = Math.max(0, bounds[0] - PADDING);
+        int y = Math.max(0, bounds[1] - PADDING);
+        int width = Math.min(flattened.getWidth(), bounds[2] + PADDING + 1) - x;
+        int height = Math.min(flattened.getHeight(), bounds[3] + PADDING + 1) - y;
+
+        double scale = Math.min(1.0, (double) maxWidth / width);
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(flattened, 0, 0, targetWidth, targetHeight, x, y, x + width, y + height, null);
+        } finally {
+            g.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(target, "png", out);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode signature image: " + e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
+    // Canvas exports arrive as data URLs: data:image/png;base64,....
+    private static String stripDataUrl(String signatureData) {
+        int comma = signatureData.indexOf(',');
+        return signatureData.startsWith("data:") && comma > 0 ? signatureData.substring(comma + 1) : signatureData;
+    }
+
+    // Transparent canvas pixels become white so the ink survives the grayscale conversion
+    private static BufferedImage flatten(BufferedImage source) {
+        BufferedImage gray = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = gray.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return gray;
+    }
+
+    // {minX, minY, maxX, maxY} of the ink, or null for a blank image
+    private static int[] inkBounds(BufferedImage gray) {
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = -1, maxY = -1;
+        WritableRaster raster = gray.getRaster();
+        for (int y = 0; y < gray.getHeight(); y++) {
+            for (int x = 0; x < gray.getWidth(); x++) {
+                if (raster.getSample(x, y, 0) < INK_THRESHOLD) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        return maxX < 0 ? null : new int[]{minX, minY, maxX, maxY};
+    }
+}
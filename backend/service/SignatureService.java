@@ -5,7 +5,10 @@ import com.screening.interviews.model.*;
 import com.screening.interviews.repo.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,10 +22,42 @@ public class SignatureService {
     private final SignatureRepository signatureRepository;
     private final OfferLetterRepository offerLetterRepository;
     private final OfferLetterService offerLetterService;
-    private final NotificationService notificationService;
+    private final NotificationOutbox notificationOutbox;
     private final PdfService pdfService;
+    private final SignatureImageStore signatureImageStore;
+    private final SigningIdempotencyGuard signingIdempotencyGuard;
+    private final PlatformTransactionManager transactionManager;
+
+    // Not in a transaction: a claim may sleep waiting for a duplicate, and that should not hold a
+    // connection. Signing and completion run in one explicit transaction, so a failed commit is seen
+    // here and releases the key instead of leaving it claimed.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SignatureDTO signOffer(Long offerId, SignOfferRequest request, String signerIp, String userAgent,
+                                  String idempotencyKey) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return tx.execute(status -> convertToDTO(applySignOffer(offerId, request, signerIp, userAgent)));
+        }
 
-    public SignatureDTO signOffer(Long offerId, SignOfferRequest request, String signerIp, String userAgent) {
+        // A duplicate of a finished attempt returns its signature without touching PdfService or MinIO
+        SigningIdempotencyGuard.Claim claim = signingIdempotencyGuard.claim(offerId, idempotencyKey.trim(), request);
+        if (claim.alreadySigned()) {
+            return tx.execute(status -> convertToDTO(signatureRepository.findById(claim.signatureId())
+                    .orElseThrow(() -> new RuntimeException("Signature not found"))));
+        }
+        try {
+            return tx.execute(status -> {
+                Signature signature = applySignOffer(offerId, request, signerIp, userAgent);
+                signingIdempotencyGuard.complete(claim, signature.getId());
+                return convertToDTO(signature);
+            });
+        } catch (RuntimeException e) {
+            signingIdempotencyGuard.fail(claim, e);
+            throw e;
+        }
+    }
+
+    private Signature applySignOffer(Long offerId, SignOfferRequest request, String signerIp, String userAgent) {
         OfferLetter offer = offerLetterRepository.findById(offerId)
                 .orElseThrow(() -> new RuntimeException("Offer not found"));
 
@@ -39,7 +74,11 @@ public class SignatureService {
         signature.setOffer(offer);
         signature.setCandidateId(offer.getCandidateId());
         signature.setSignatureType(request.getOfferSignatureType());
-        signature.setSignatureData(request.getSignatureData());
+        if (request.getOfferSignatureType() == Signature.OfferSignatureType.DRAWN) {
+            signature.setSignatureImageKey(signatureImageStore.store(offerId, request.getSignatureData()));
+        } else {
+            signature.setSignatureData(request.getSignatureData());
+        }
         signature.setConsentText(request.getConsentText());
         signature.setSignedAt(LocalDateTime.now());
         signature.setSignerIp(signerIp);
@@ -58,9 +97,9 @@ public class SignatureService {
         offerLetterService.markOfferSigned(offerId, signedPdfUrl);
 
         // Send notifications
-        notificationService.sendSignedOfferNotification(offer);
+        notificationOutbox.offerSigned(offer);
 
-        return convertToDTO(signature);
+        return signature;
     }
 
     public SignatureDTO getSignature(Long offerId) {
@@ -69,13 +108,32 @@ public class SignatureService {
         return convertToDTO(signature);
     }
 
+    @Transactional(readOnly = true)
+    public byte[] getSignatureImage(Long offerId) {
+        Signature signature = signatureRepository.findByOfferId(offerId)
+                .orElseThrow(() -> new RuntimeException("Signature not found for offer"));
+        if (signature.getSignatureType() != Signature.OfferSignatureType.DRAWN) {
+            throw new RuntimeException("Signature has no drawn image");
+        }
+        // Rows signed before images moved to object storage keep their original image inline;
+        // it is part of the signing evidence, so it is served as it was captured, never rewritten
+        if (signature.getSignatureImageKey() == null) {
+            return signatureImageStore.decodeInline(signature.getSignatureData());
+        }
+        return signatureImageStore.load(signature.getSignatureImageKey());
+    }
+
     private SignatureDTO convertToDTO(Signature signature) {
         SignatureDTO dto = new SignatureDTO();
         dto.setId(signature.getId());
         dto.setOfferId(signature.getOffer().getId());
         dto.setCandidateId(signature.getCandidateId());
         dto.setOfferSignatureType(signature.getSignatureType());
-        dto.setSignatureData(signature.getSignatureData());
+        if (signature.getSignatureType() == Signature.OfferSignatureType.DRAWN) {
+            dto.setSignatureImageUrl("/api/signatures/offers/" + signature.getOffer().getId() + "/image");
+        } else {
+            dto.setSignatureData(signature.getSignatureData());
+        }
         dto.setConsentText(signature.getConsentText());
         dto.setSignedAt(signature.getSignedAt());
         dto.setSignerIp(signature.getSignerIp());
@@ -0,0 +1,176 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.dto.SignOfferRequest;
+import com.screening.interviews.model.SigningAttempt;
+import com.screening.interviews.repo.SigningAttemptRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Records signing attempts per (offer, Idempotency-Key). A claim is committed in its own
+ * transaction before any hashing, rendering or upload starts, so a duplicate request sees it
+ * at once: a completed attempt hands back its signature, an in-flight one is waited on for
+ * up to {@code app.signatures.idempotency.wait-ms}, and a failed or abandoned one is claimed
+ * again, even for a changed request. Completion is written in the signing transaction itself.
+ */
+@Slf4j
+@Component
+public class SigningIdempotencyGuard {
+
+    public record Claim(Long attemptId, Long signatureId) {
+
+        public boolean alreadySigned() {
+            return signatureId != null;
+        }
+    }
+
+    private final SigningAttemptRepository signingAttemptRepository;
+    private final TransactionTemplate requiresNew;
+
+    @Value("${app.signatures.idempotency.wait-ms:5000}")
+    private long waitMs;
+
+    @Value("${app.signatures.idempotency.poll-ms:100}")
+    private long pollMs;
+
+    // An attempt in flight this long is assumed abandoned (e.g. the instance died mid-way)
+    @Value("${app.signatures.idempotency.stale-after:2m}")
+    private Duration staleAfter;
+
+    @Value("${app.signatures.idempotency.retention-days:30}")
+    private int retentionDays;
+
+    public SigningIdempotencyGuard(SigningAttemptRepository signingAttemptRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.signingAttemptRepository = signingAttemptRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Claim claim(Long offerId, String idempotencyKey, SignOfferRequest request) {
+        String requestHash = fingerprint(request);
+        long deadline = System.nanoTime() + Duration.ofMillis(waitMs).toNanos();
+        while (true) {
+            Claim claim;
+            try {
+                claim = requiresNew.execute(status -> tryClaim(offerId, idempotencyKey, requestHash));
+            } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+                claim = null; // a concurrent duplicate claimed first; read its attempt on the next pass
+            }
+            if (claim != null) {
+                return claim;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new RuntimeException("Signing with this idempotency key is still in progress, please retry");
+            }
+            try {
+                Thread.sleep(pollMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a concurrent signing attempt", e);
+            }
+        }
+    }
+
+    /** Marks the attempt completed inside the caller's signing transaction. */
+    public void complete(Claim claim, Long signatureId) {
+        SigningAttempt attempt = signingAttemptRepository.findById(claim.attemptId())
+                .orElseThrow(() -> new RuntimeException("Signing attempt not found"));
+        attempt.setStatus(SigningAttempt.AttemptStatus.COMPLETED);
+        attempt.setSignatureId(signatureId);
+        attempt.setCompletedAt(LocalDateTime.now());
+        attempt.setLastError(null);
+        signingAttemptRepository.save(attempt);
+    }
+
+    /** Releases the key for a retry; runs on its own since the signing transaction is rolling back. */
+    public void fail(Claim claim, RuntimeException cause) {
+        try {
+            requiresNew.executeWithoutResult(status -> signingAttemptRepository.findById(claim.attemptId())
+                    .ifPresent(attempt -> {
+                        attempt.setStatus(SigningAttempt.AttemptStatus.FAILED);
+                        attempt.setLastError(cause.getMessage());
+                    }));
+        } catch (RuntimeException e) {
+            log.warn("Recording failed signing attempt {} failed: {}", claim.attemptId(), e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.signatures.idempotency.purge-cron:0 45 3 * * *}")
+    public void purgeExpired() {
+        Integer purged = requiresNew.execute(status ->
+                signingAttemptRepository.deleteCreatedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} expired signing attempts", purged);
+        }
+    }
+
+    // null: another request holds the key right now
+    private Claim tryClaim(Long offerId, String idempotencyKey, String requestHash) {
+        Optional<SigningAttempt> existing = signingAttemptRepository.findByOfferIdAndIdempotencyKey(offerId, idempotencyKey);
+        if (existing.isEmpty()) {
+            SigningAttempt attempt = new SigningAttempt();
+            attempt.setOfferId(offerId);
+            attempt.setIdempotencyKey(idempotencyKey);
+            attempt.setRequestHash(requestHash);
+            attempt.setStatus(SigningAttempt.AttemptStatus.IN_PROGRESS);
+            attempt.setStartedAt(LocalDateTime.now());
+            attempt = signingAttemptRepository.saveAndFlush(attempt);
+            return new Claim(attempt.getId(), null);
+        }
+
+        SigningAttempt attempt = existing.get();
+        boolean sameRequest = attempt.getRequestHash().equals(requestHash);
+        switch (attempt.getStatus()) {
+            case COMPLETED:
+                if (!sameRequest) {
+                    throw new RuntimeException("Idempotency key was already used for a different signature");
+                }
+                return new Claim(attempt.getId(), attempt.getSignatureId());
+            case IN_PROGRESS:
+                if (attempt.getStartedAt().isAfter(LocalDateTime.now().minus(staleAfter))) {
+                    if (!sameRequest) {
+                        throw new RuntimeException("Idempotency key is in use by a different signature");
+                    }
+                    return null;
+                }
+                break;
+            default:
+                break;
+        }
+        // A failed or abandoned attempt signed nothing, so the key may carry a corrected request
+        attempt.setRequestHash(requestHash);
+        attempt.setStatus(SigningAttempt.AttemptStatus.IN_PROGRESS);
+        attempt.setStartedAt(LocalDateTime.now());
+        signingAttemptRepository.saveAndFlush(attempt);
+        return new Claim(attempt.getId(), null);
+    }
+
+    // Consent text carries a timestamp, so only what is actually signed identifies the request
+    private static String fingerprint(SignOfferRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(request.getOfferSignatureType()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(request.getSignatureData()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.screening.interviews.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Backs {@code fields=} selections: builds a tuple query that selects only the requested
+ * columns, so unrequested text columns are never read from the database. Each endpoint passes
+ * the fields it exposes as a map of response name to entity attribute path (e.g.
+ * {@code "offerId" -> "offer.id"}); {@code id} is always returned.
+ */
+@Component
+@RequiredArgsConstructor
+public class SparseFieldQuery {
+
+    private final EntityManager entityManager;
+
+    /** Parses a comma-separated parameter; null or blank means "not requested". */
+    public static Set<String> parse(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return null;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        Arrays.stream(csv.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(names::add);
+        return names;
+    }
+
+    public <E> List<Map<String, Object>> select(Class<E> entityType,
+                                                Map<String, String> allowedFields,
+                                                Set<String> requestedFields,
+                                                BiFunction<CriteriaBuilder, Root<E>, Predicate> where,
+                                                String orderBy) {
+        List<String> fields = resolve(allowedFields, requestedFields);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityType);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(path(root, allowedFields.get(field)).alias(field));
+        }
+        query.multiselect(selections);
+        if (where != null) {
+            query.where(where.apply(cb, root));
+        }
+        if (orderBy != null) {
+            query.orderBy(cb.asc(path(root, orderBy)));
+        }
+
+        List<Tuple> tuples = entityManager.createQuery(query).getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<String> resolve(Map<String, String> allowedFields, Set<String> requestedFields) {
+        List<String> fields = new ArrayList<>();
+        fields.add("id");
+        for (String field : requestedFields) {
+            if (!allowedFields.containsKey(field)) {
+                throw new RuntimeException("Unknown field: " + field);
+            }
+            if (!fields.contains(field)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static Path<?> path(Root<?> root, String attributePath) {
+        Path<?> path = root;
+        for (String part : attributePath.split("\\.")) {
+            path = path.get(part);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,84 @@
+package com.screening.interviews.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.screening.interviews.model.OfferTemplate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders {@code {{placeholder}}} templates. Each template is compiled once per
+ * (id, updatedAt) and reused, so rendering is a parse of the customizations JSON
+ * plus one pass over the compiled segments.
+ */
+@Component
+@RequiredArgsConstructor
+public class TemplateEngine {
+
+    public enum MissingKeyPolicy {
+        KEEP,  // leave the {{placeholder}} in the output
+        EMPTY, // substitute an empty string (null for bare JSON values)
+        FAIL   // reject the render
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Map<Long, CompiledTemplate> compiled = new ConcurrentHashMap<>();
+
+    @Value("${app.templates.missing-key-policy:KEEP}")
+    private MissingKeyPolicy missingKeyPolicy;
+
+    @Value("${app.templates.compiled-cache-size:1000}")
+    private int maxCompiledTemplates;
+
+    public String render(OfferTemplate template, String customizations) {
+        return render(template, customizations, missingKeyPolicy);
+    }
+
+    public String render(OfferTemplate template, String customizations, MissingKeyPolicy policy) {
+        return render(compile(template), parseCustomizations(customizations), policy);
+    }
+
+    public String render(CompiledTemplate template, JsonNode values, MissingKeyPolicy policy) {
+        return template.render(values, policy);
+    }
+
+    public CompiledTemplate compile(OfferTemplate template) {
+        CompiledTemplate cached = compiled.get(template.getId());
+        if (cached != null && Objects.equals(cached.getUpdatedAt(), template.getUpdatedAt())) {
+            return cached;
+        }
+
+        CompiledTemplate fresh = CompiledTemplate.compile(
+                template.getId(), template.getUpdatedAt(), template.getTemplateContent());
+        if (compiled.size() >= maxCompiledTemplates && !compiled.containsKey(template.getId())) {
+            compiled.clear();
+        }
+        compiled.put(template.getId(), fresh);
+        return fresh;
+    }
+
+    public JsonNode parseCustomizations(String customizations) {
+        if (customizations == null || customizations.isBlank()) {
+            return NullNode.getInstance();
+        }
+        try {
+            return objectMapper.readTree(customizations);
+        } catch (Exception e) {
+            throw new RuntimeException("Invalid template customizations: " + e.getMessage(), e);
+        }
+    }
+
+    public void evict(Long templateId) {
+        compiled.remove(templateId);
+    }
+
+    public MissingKeyPolicy getMissingKeyPolicy() {
+        return missingKeyPolicy;
+    }
+}
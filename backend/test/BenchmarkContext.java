@@ -0,0 +1,44 @@
+package com.screening.interviews;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProcessor;
+import org.springframework.scheduling.config.ScheduledTask;
+
+/**
+ * The application context for the standalone harnesses under test/ that drive the real
+ * services and repositories: every bean and the persistence config the app runs with, pointed
+ * at the database given on the command line, without a web server. Flyway migrates that
+ * database on startup, so it has to be a disposable one. The scheduled jobs (outbox dispatch,
+ * backfills, counter repair) are cancelled once the context is up so they do not write while
+ * a harness measures.
+ */
+@SpringBootApplication
+public class BenchmarkContext {
+
+    /**
+     * Starts the context. {@code properties} are extra {@code name=value} settings; like the
+     * datasource they are passed as command-line arguments, so they override application.properties.
+     */
+    public static ConfigurableApplicationContext start(String jdbcUrl, String user, String password,
+                                                       String... properties) {
+        String[] args = new String[properties.length + 3];
+        args[0] = "--spring.datasource.url=" + jdbcUrl;
+        args[1] = "--spring.datasource.username=" + user;
+        args[2] = "--spring.datasource.password=" + password;
+        for (int i = 0; i < properties.length; i++) {
+            args[i + 3] = "--" + properties[i];
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BenchmarkContext.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run(args);
+        context.getBean(ScheduledAnnotationBeanPostProcessor.class).getScheduledTasks()
+                .forEach(ScheduledTask::cancel);
+        return context;
+    }
+}
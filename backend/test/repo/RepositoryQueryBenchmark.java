@@ -0,0 +1,325 @@
+package com.screening.interviews.repo;
+
+import com.screening.interviews.BenchmarkContext;
+import com.screening.interviews.model.OfferApproval;
+import com.screening.interviews.model.OfferLetter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Latency and plans of every OfferLetterRepository, OfferApprovalRepository and
+ * SignatureRepository query method over a large seeded dataset, so a dropped or unused index
+ * shows up as a Seq Scan and a jump in latency. The methods are called through the real
+ * repositories and persistence config; a StatementInspector records the SQL Hibernate
+ * generates for each, which is then shown with {@code EXPLAIN (GENERIC_PLAN)}.
+ * <p>
+ * The queries use Postgres features (tsvector search, generic plans need 16+), so the run
+ * needs a real Postgres rather than an embedded database. Flyway migrates it on startup and
+ * the seed expects empty tables, so point it at a fresh, disposable one:
+ * {@code java -cp <app classpath>:<test classes> com.screening.interviews.repo.RepositoryQueryBenchmark
+ * jdbc:postgresql://localhost:5432/bench user password [offers]}.
+ * Modifying queries run in transactions that are rolled back.
+ */
+public class RepositoryQueryBenchmark {
+
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 30;
+    private static final int FULL_SCAN_ITERATIONS = 3; // methods that read a whole table or status
+    private static final int CREATORS = 200;
+    private static final int APPROVERS = 1000;
+    private static final int STREAMED_ROWS = 10_000;
+
+    /** Records the SQL of the current thread so each method's statements can be explained. */
+    public static class CapturedSql implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.get().add(sql);
+            return sql;
+        }
+
+        static List<String> drain() {
+            List<String> statements = new ArrayList<>(STATEMENTS.get());
+            STATEMENTS.get().clear();
+            return statements;
+        }
+    }
+
+    private interface Call {
+        int run(Random random); // returns the number of rows the method produced
+    }
+
+    private record BenchQuery(String name, int iterations, boolean modifying, Call call) {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("usage: RepositoryQueryBenchmark <jdbcUrl> <user> <password> [offers]");
+            System.exit(2);
+        }
+        int offers = args.length > 3 ? Integer.parseInt(args[3]) : 1_000_000;
+
+        try (ConfigurableApplicationContext context = BenchmarkContext.start(args[0], args[1], args[2],
+                "spring.jpa.properties.hibernate.session_factory.statement_inspector=" + CapturedSql.class.getName())) {
+            JdbcTemplate jdbc = new JdbcTemplate(context.getBean(DataSource.class));
+            long seedStart = System.nanoTime();
+            seed(jdbc, offers);
+            System.out.printf("Seeded %d offers in %.1f s%n%n", offers, (System.nanoTime() - seedStart) / 1e9);
+
+            PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+            for (BenchQuery query : queries(context, offers)) {
+                run(transactionManager, jdbc, query);
+            }
+        }
+    }
+
+    // Every fifth offer awaits approval with two of its three steps pending; every fifth is signed
+    private static void seed(JdbcTemplate jdbc, int offers) {
+        Long existing = jdbc.queryForObject("SELECT count(*) FROM offer_letters", Long.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("offer_letters already has " + existing + " rows; use a fresh database");
+        }
+        jdbc.execute("INSERT INTO offer_letters (id, candidate_id, created_by, status, offer_content, "
+                + "created_at, updated_at, candidate_name, position, salary, salary_amount, content_extracted, "
+                + "total_approvals, pending_approvals, current_approval_order, version) "
+                + "SELECT g, g, 1 + g % " + CREATORS + ", "
+                + "(ARRAY['DRAFT','PENDING_APPROVAL','READY_FOR_SIGN','SIGNED','REJECTED'])[1 + g % 5], '{}', "
+                + "now() - g * interval '1 minute', now(), 'Candidate ' || g, "
+                + "(ARRAY['Engineer','Designer','Manager','Analyst'])[1 + g % 4], (50000 + g % 100000)::text, "
+                + "50000 + g % 100000, g % 100 <> 0, 3, CASE WHEN g % 5 = 1 THEN 2 ELSE 0 END, "
+                + "CASE WHEN g % 5 = 1 THEN 2 END, 0 "
+                + "FROM generate_series(1, " + offers + ") g");
+        jdbc.execute("INSERT INTO offer_approvals (id, offer_id, approver_id, approver_role, "
+                + "approval_order, status, version) "
+                + "SELECT (g - 1) * 3 + k, g, " + approverSql() + ", 'HIRING_MANAGER', k, "
+                + "CASE WHEN g % 5 = 1 AND k > 1 THEN 'PENDING' ELSE 'APPROVED' END, 0 "
+                + "FROM generate_series(1, " + offers + ") g CROSS JOIN generate_series(1, 3) k");
+        jdbc.execute("INSERT INTO signatures (id, offer_id, candidate_id, signature_type, signature_data, "
+                + "signed_at) SELECT g, g, g, 'TYPED', 'Candidate ' || g, now() - g * interval '1 minute' "
+                + "FROM generate_series(1, " + offers + ") g WHERE g % 5 = 3");
+        jdbc.execute("ANALYZE offer_letters");
+        jdbc.execute("ANALYZE offer_approvals");
+        jdbc.execute("ANALYZE signatures");
+    }
+
+    private static String approverSql() {
+        return "1 + (g * 7 + k) % " + APPROVERS;
+    }
+
+    // Same formula as the seed, for the k-th step of offer g
+    private static long approverOf(long offerId, int step) {
+        return 1 + (offerId * 7 + step) % APPROVERS;
+    }
+
+    private static List<BenchQuery> queries(ConfigurableApplicationContext context, int offers) {
+        OfferLetterRepository offerLetters = context.getBean(OfferLetterRepository.class);
+        OfferApprovalRepository approvals = context.getBean(OfferApprovalRepository.class);
+        SignatureRepository signatures = context.getBean(SignatureRepository.class);
+        OfferLetter.OfferStatus awaiting = OfferLetter.OfferStatus.PENDING_APPROVAL;
+        OfferApproval.ApprovalStatus pending = OfferApproval.ApprovalStatus.PENDING;
+
+        List<BenchQuery> queries = new ArrayList<>();
+
+        // OfferLetterRepository
+        queries.add(new BenchQuery("OfferLetterRepository.findByStatus", FULL_SCAN_ITERATIONS, false,
+                r -> offerLetters.findByStatus(awaiting).size()));
+        queries.add(new BenchQuery("OfferLetterRepository.findByCreatedBy", ITERATIONS, false,
+                r -> offerLetters.findByCreatedBy(creator(r)).size()));
+        queries.add(new BenchQuery("OfferLetterRepository.findAllSummaries", FULL_SCAN_ITERATIONS, false,
+                r -> offerLetters.findAllSummaries().size()));
+        queries.add(new BenchQuery("OfferLetterRepository.findSummariesByStatus", FULL_SCAN_ITERATIONS, false,
+                r -> offerLetters.findSummariesByStatus(awaiting).size()));
+        queries.add(new BenchQuery("OfferLetterRepository.findSummariesByCreatedBy", ITERATIONS, false,
+                r -> offerLetters.findSummariesByCreatedBy(creator(r)).size()));
+        queries.add(new BenchQuery("OfferLetterRepository.streamAllOrderById (first " + STREAMED_ROWS + " rows)",
+                ITERATIONS, false, r -> {
+                    try (Stream<OfferLetter> stream = offerLetters.streamAllOrderById()) {
+                        return (int) stream.limit(STREAMED_ROWS).count();
+                    }
+                }));
+        queries.add(new BenchQuery("OfferLetterRepository.findApprovalCounterStates", ITERATIONS, false,
+                r -> offerLetters.findApprovalCounterStates((long) r.nextInt(offers), PageRequest.of(0, 1000)).size()));
+        queries.add(new BenchQuery("OfferLetterRepository.repairApprovalCounters", ITERATIONS, true,
+                r -> offerLetters.repairApprovalCounters(offer(r, offers), 3, 0, null)));
+        queries.add(new BenchQuery("OfferLetterRepository.countByStatusAndCreator", FULL_SCAN_ITERATIONS, false,
+                r -> offerLetters.countByStatusAndCreator().size()));
+        queries.add(new BenchQuery("OfferLetterRepository.findUnextractedContent", ITERATIONS, false,
+                r -> offerLetters.findUnextractedContent((long) r.nextInt(offers), PageRequest.of(0, 500)).size()));
+        queries.add(new BenchQuery("OfferLetterRepository.updateExtractedContent", ITERATIONS, true,
+                r -> offerLetters.updateExtractedContent(offer(r, offers), "Candidate", "Engineer", "60000", 60_000L)));
+        queries.add(new BenchQuery("OfferLetterRepository.searchByPrefix", ITERATIONS, false,
+                r -> offerLetters.searchByPrefix("candidate " + offer(r, offers) + "%", null, null, null, null,
+                        PageRequest.of(0, 20)).getNumberOfElements()));
+        queries.add(new BenchQuery("OfferLetterRepository.searchByPrefix (status and salary filters)", ITERATIONS,
+                false, r -> offerLetters.searchByPrefix("candidate " + (1 + r.nextInt(9)) + "%", awaiting.name(), null,
+                        60_000L, 90_000L, PageRequest.of(0, 20)).getNumberOfElements()));
+        queries.add(new BenchQuery("OfferLetterRepository.searchFullText", ITERATIONS, false,
+                r -> offerLetters.searchFullText(Long.toString(offer(r, offers)), null, null, null, null,
+                        PageRequest.of(0, 20)).getNumberOfElements()));
+        queries.add(new BenchQuery("OfferLetterRepository.findVersionStampById", ITERATIONS, false,
+                r -> offerLetters.findVersionStampById(offer(r, offers)).isPresent() ? 1 : 0));
+        queries.add(new BenchQuery("OfferLetterRepository.findListStamp", FULL_SCAN_ITERATIONS, false,
+                r -> offerLetters.findListStamp() != null ? 1 : 0));
+        queries.add(new BenchQuery("OfferLetterRepository.findListStampByStatus", FULL_SCAN_ITERATIONS, false,
+                r -> offerLetters.findListStampByStatus(awaiting) != null ? 1 : 0));
+        queries.add(new BenchQuery("OfferLetterRepository.findListStampByCreatedBy", ITERATIONS, false,
+                r -> offerLetters.findListStampByCreatedBy(creator(r)) != null ? 1 : 0));
+
+        // OfferApprovalRepository
+        queries.add(new BenchQuery("OfferApprovalRepository.findByOfferIdOrderByApprovalOrder", ITERATIONS, false,
+                r -> approvals.findByOfferIdOrderByApprovalOrder(offer(r, offers)).size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.findByApproverIdAndStatus", ITERATIONS, false,
+                r -> approvals.findByApproverIdAndStatus(approver(r), pending).size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.findByOfferIdAndStatus", ITERATIONS, false,
+                r -> approvals.findByOfferIdAndStatus(awaitingOffer(r, offers), pending).size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.findByApproverId", ITERATIONS, false,
+                r -> approvals.findByApproverId(approver(r)).size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.findByOfferIdAndApproverIdAndStatus", ITERATIONS, false,
+                r -> {
+                    long offerId = awaitingOffer(r, offers);
+                    return approvals.findByOfferIdAndApproverIdAndStatus(offerId, approverOf(offerId, 2), pending)
+                            .size();
+                }));
+        queries.add(new BenchQuery("OfferApprovalRepository.findFirstByOfferIdAndStatusOrderByApprovalOrder",
+                ITERATIONS, false, r -> approvals.findFirstByOfferIdAndStatusOrderByApprovalOrder(
+                        awaitingOffer(r, offers), pending).isPresent() ? 1 : 0));
+        queries.add(new BenchQuery("OfferApprovalRepository.findAllWithOfferByIdIn (100 ids)", ITERATIONS, false,
+                r -> approvals.findAllWithOfferByIdIn(ids(r, 3L * offers)).size()));
+        queries.add(new BenchQuery(
+                "OfferApprovalRepository.findWithOfferByOfferIdInAndApproverIdAndStatus (100 offers)",
+                ITERATIONS, false,
+                r -> approvals.findWithOfferByOfferIdInAndApproverIdAndStatus(ids(r, offers), approver(r), pending)
+                        .size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.findByOfferIdInAndStatus (100 offers)", ITERATIONS, false,
+                r -> approvals.findByOfferIdInAndStatus(ids(r, offers), pending).size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.findActivePendingApprovals", FULL_SCAN_ITERATIONS, false,
+                r -> approvals.findActivePendingApprovals().size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.countStagesByOfferIds (100 offers)", ITERATIONS, false,
+                r -> approvals.countStagesByOfferIds(ids(r, offers)).size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.findCurrentStageByOfferIds (100 offers)", ITERATIONS,
+                false, r -> approvals.findCurrentStageByOfferIds(ids(r, offers)).size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.countApprovalsByOfferIds (100 offers)", ITERATIONS, false,
+                r -> approvals.countApprovalsByOfferIds(ids(r, offers)).size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.countPendingByApprover", FULL_SCAN_ITERATIONS, false,
+                r -> approvals.countPendingByApprover().size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.findDetailRowsByApproverIdAndStatus (inbox)", ITERATIONS,
+                false, r -> approvals.findDetailRowsByApproverIdAndStatus(approver(r), pending).size()));
+        queries.add(new BenchQuery("OfferApprovalRepository.findDetailRowById", ITERATIONS, false,
+                r -> approvals.findDetailRowById(1L + r.nextInt(3 * offers)).isPresent() ? 1 : 0));
+
+        // SignatureRepository
+        queries.add(new BenchQuery("SignatureRepository.findByOfferId", ITERATIONS, false,
+                r -> signatures.findByOfferId(signedOffer(r, offers)).isPresent() ? 1 : 0));
+        queries.add(new BenchQuery("SignatureRepository.findByCandidateId", ITERATIONS, false,
+                r -> signatures.findByCandidateId(signedOffer(r, offers)).size()));
+        queries.add(new BenchQuery("SignatureRepository.countBySignedAtGreaterThanEqual (last day)", ITERATIONS, false,
+                r -> (int) signatures.countBySignedAtGreaterThanEqual(LocalDateTime.now().minusDays(1))));
+        queries.add(new BenchQuery("SignatureRepository.findSummaryByOfferId", ITERATIONS, false,
+                r -> signatures.findSummaryByOfferId(signedOffer(r, offers)).isPresent() ? 1 : 0));
+        return queries;
+    }
+
+    private static long offer(Random random, int offers) {
+        return 1L + random.nextInt(offers);
+    }
+
+    // Offers with g % 5 == 1 await approval, g % 5 == 3 are signed (candidate id == offer id)
+    private static long awaitingOffer(Random random, int offers) {
+        return 1L + 5L * random.nextInt(Math.max(1, offers / 5));
+    }
+
+    private static long signedOffer(Random random, int offers) {
+        return 3L + 5L * random.nextInt(Math.max(1, offers / 5));
+    }
+
+    private static long creator(Random random) {
+        return 1L + random.nextInt(CREATORS);
+    }
+
+    private static long approver(Random random) {
+        return 1L + random.nextInt(APPROVERS);
+    }
+
+    private static List<Long> ids(Random random, long max) {
+        long from = 1 + (long) random.nextInt((int) Math.max(1, max - 100));
+        List<Long> ids = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            ids.add(from + i);
+        }
+        return ids;
+    }
+
+    private static void run(PlatformTransactionManager transactionManager, JdbcTemplate jdbc, BenchQuery query) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(!query.modifying());
+        Random random = new Random(query.name().hashCode());
+        long[] nanos = new long[query.iterations()];
+        int rows = 0;
+        for (int i = 0; i < WARMUP + query.iterations(); i++) {
+            CapturedSql.drain();
+            long start = System.nanoTime();
+            Integer result = tx.execute(status -> {
+                int produced = query.call().run(random);
+                if (query.modifying()) {
+                    status.setRollbackOnly();
+                }
+                return produced;
+            });
+            if (i >= WARMUP) {
+                nanos[i - WARMUP] = System.nanoTime() - start;
+                rows = result != null ? result : 0;
+            }
+        }
+        List<String> statements = CapturedSql.drain(); // each iteration drains first, so these are the last call's
+
+        Arrays.sort(nanos);
+        int n = nanos.length;
+        System.out.printf("%s%n  %d rows, p50 %.2f ms, p95 %.2f ms, max %.2f ms%n", query.name(), rows,
+                nanos[n / 2] / 1e6, nanos[Math.min(n - 1, n * 95 / 100)] / 1e6, nanos[n - 1] / 1e6);
+        for (String sql : statements) {
+            System.out.println("  " + sql);
+            try {
+                for (String line : jdbc.queryForList("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql), String.class)) {
+                    System.out.println("    " + line);
+                }
+            } catch (DataAccessException e) {
+                System.out.println("    no plan: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+        System.out.println();
+    }
+
+    // EXPLAIN (GENERIC_PLAN) takes $n placeholders; JDBC's ? outside string literals become $1, $2, ...
+    private static String numberParameters(String sql) {
+        StringBuilder out = new StringBuilder(sql.length() + 16);
+        boolean inLiteral = false;
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                out.append('$').append(++parameter);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,186 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.BenchmarkContext;
+import com.screening.interviews.dto.ApprovalActionRequest;
+import com.screening.interviews.dto.ApprovalWorkflowRequest;
+import com.screening.interviews.dto.CreateOfferRequest;
+import com.screening.interviews.model.OfferApproval;
+import com.screening.interviews.model.OfferLetter;
+import com.screening.interviews.repo.OfferApprovalRepository;
+import com.screening.interviews.repo.OfferLetterRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Every approver of a parallel stage deciding at once, through the real ApprovalService,
+ * OptimisticLockRetry and persistence config against a real database. For each stage width,
+ * offers are created and submitted through OfferLetterService with one stage of that many
+ * approvers; all decisions are released together, half through processApprovalByOfferId and
+ * half through processApproval. Each offer is then read back and must have every step
+ * APPROVED, status READY_FOR_SIGN, pendingApprovals 0, totalApprovals equal to the width, no
+ * current stage, and exactly one version bump per decision; a lost update breaks one of these.
+ * <p>
+ * Reports decisions per second, attempts rolled back (Hibernate transaction statistics, so
+ * optimistic conflicts that OptimisticLockRetry re-ran) and decisions that ran out of retries,
+ * which are re-submitted the way a client would. Creates offers in the target database, so
+ * point it at a disposable one:
+ * {@code java -cp <app classpath>:<test classes> com.screening.interviews.service.ConcurrentApprovalBenchmark
+ * jdbc:postgresql://localhost:5432/bench user password [threads] [offers]}
+ */
+public class ConcurrentApprovalBenchmark {
+
+    private static final long CREATOR_ID = 900_000L;
+    private static final long FIRST_APPROVER_ID = 910_000L;
+    private static final int MAX_RESUBMITS = 20;
+
+    private record Decision(Long offerId, Long approvalId, Long approverId) {
+    }
+
+    private record Result(int decisions, long nanos, long rolledBack, long gaveUp) {
+        double perSecond() {
+            return decisions * 1e9 / nanos;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: ConcurrentApprovalBenchmark <jdbcUrl> <user> <password> [threads] [offers]");
+            System.exit(2);
+        }
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : 16;
+        int offers = args.length > 4 ? Integer.parseInt(args[4]) : 200;
+
+        try (ConfigurableApplicationContext context = BenchmarkContext.start(args[0], args[1], args[2])) {
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+
+            System.out.printf("%10s %10s %14s %12s %10s%n", "approvers", "decisions", "decisions/s", "rolled back",
+                    "gave up");
+            for (int width : new int[]{1, 2, 4, 8, 16}) {
+                Result result = run(context, statistics, threads, offers, width);
+                System.out.printf("%10d %10d %14.0f %12d %10d%n", width, result.decisions(), result.perSecond(),
+                        result.rolledBack(), result.gaveUp());
+            }
+        }
+    }
+
+    private static Result run(ConfigurableApplicationContext context, Statistics statistics, int threads,
+                              int offers, int width) throws Exception {
+        OfferLetterService offerLetterService = context.getBean(OfferLetterService.class);
+        ApprovalService approvalService = context.getBean(ApprovalService.class);
+        OfferLetterRepository offerLetterRepository = context.getBean(OfferLetterRepository.class);
+        OfferApprovalRepository offerApprovalRepository = context.getBean(OfferApprovalRepository.class);
+
+        // Approvers of the same offer are queued next to each other so they really collide
+        Map<Long, Long> versionsBefore = new HashMap<>();
+        List<Decision> decisions = new ArrayList<>(offers * width);
+        for (int i = 0; i < offers; i++) {
+            Long offerId = offerLetterService.createOffer(new CreateOfferRequest((long) i,
+                    "{\"candidateName\": \"Bench " + i + "\", \"position\": \"Engineer\"}"), CREATOR_ID).getId();
+            List<ApprovalWorkflowRequest.ApprovalStep> steps = new ArrayList<>(width);
+            for (int a = 0; a < width; a++) {
+                steps.add(new ApprovalWorkflowRequest.ApprovalStep(FIRST_APPROVER_ID + a, "HIRING_MANAGER", 1, null));
+            }
+            offerLetterService.submitForApproval(offerId, CREATOR_ID, "RECRUITER", new ApprovalWorkflowRequest(steps));
+            versionsBefore.put(offerId, offerLetterRepository.findVersionStampById(offerId).orElseThrow().getVersion());
+            for (OfferApproval step : offerApprovalRepository.findByOfferIdOrderByApprovalOrder(offerId)) {
+                decisions.add(new Decision(offerId, step.getId(), step.getApproverId()));
+            }
+        }
+
+        LongAdder gaveUp = new LongAdder();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(decisions.size());
+        for (int i = 0; i < decisions.size(); i++) {
+            Decision decision = decisions.get(i);
+            boolean byOfferId = i % 2 == 0;
+            futures.add(pool.submit(() -> {
+                start.await();
+                decide(approvalService, decision, byOfferId, gaveUp);
+                return null;
+            }));
+        }
+        long transactionsBefore = statistics.getTransactionCount();
+        long successfulBefore = statistics.getSuccessfulTransactionCount();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(); // a decision failing for any reason other than a conflict fails the run
+        }
+        long nanos = System.nanoTime() - begin;
+        long rolledBack = (statistics.getTransactionCount() - transactionsBefore)
+                - (statistics.getSuccessfulTransactionCount() - successfulBefore);
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : versionsBefore.entrySet()) {
+            check(entry.getKey(), entry.getValue(), width, offerLetterRepository, offerApprovalRepository, failures);
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError(failures.size() + " of " + offers + " offers lost a decision with " + width
+                    + " approvers, e.g. " + failures.subList(0, Math.min(5, failures.size())));
+        }
+        return new Result(decisions.size(), nanos, rolledBack, gaveUp.sum());
+    }
+
+    private static void decide(ApprovalService approvalService, Decision decision, boolean byOfferId,
+                               LongAdder gaveUp) {
+        ApprovalActionRequest approve = new ApprovalActionRequest(OfferApproval.ApprovalStatus.APPROVED, "bench");
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (byOfferId) {
+                    approvalService.processApprovalByOfferId(decision.offerId(), approve, decision.approverId(),
+                            "HIRING_MANAGER");
+                } else {
+                    approvalService.processApproval(decision.approvalId(), approve, decision.approverId(),
+                            "HIRING_MANAGER");
+                }
+                return;
+            } catch (RuntimeException e) {
+                // OptimisticLockRetry ran out of attempts; anything else is a real failure
+                boolean conflict = e.getMessage() != null
+                        && e.getMessage().contains("conflicted with concurrent updates");
+                if (!conflict || attempt >= MAX_RESUBMITS) {
+                    throw e;
+                }
+                gaveUp.increment();
+            }
+        }
+    }
+
+    private static void check(Long offerId, Long versionBefore, int width, OfferLetterRepository offerLetterRepository,
+                              OfferApprovalRepository offerApprovalRepository, List<String> failures) {
+        OfferLetter offer = offerLetterRepository.findById(offerId).orElseThrow();
+        List<OfferApproval> steps = offerApprovalRepository.findByOfferIdOrderByApprovalOrder(offerId);
+        long approved = steps.stream().filter(s -> s.getStatus() == OfferApproval.ApprovalStatus.APPROVED).count();
+        // The offer is written once per decision: counters, and on the last one the status as well
+        long bumps = offer.getVersion() - versionBefore;
+        if (approved != width
+                || offer.getStatus() != OfferLetter.OfferStatus.READY_FOR_SIGN
+                || offer.getPendingApprovals() != 0
+                || offer.getTotalApprovals() != width
+                || offer.getCurrentApprovalOrder() != null
+                || bumps != width) {
+            failures.add("offer " + offerId + ": approved=" + approved + "/" + steps.size()
+                    + " status=" + offer.getStatus() + " pending=" + offer.getPendingApprovals()
+                    + " total=" + offer.getTotalApprovals() + " currentOrder=" + offer.getCurrentApprovalOrder()
+                    + " versionBumps=" + bumps);
+        }
+    }
+}
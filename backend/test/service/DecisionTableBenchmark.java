@@ -0,0 +1,200 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.dto.ApprovalRoutingRules;
+import com.screening.interviews.dto.ApprovalWorkflowRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Evaluation cost of the compiled routing table at thousands of rules, next to a linear scan
+ * of the same rules. Both are checked to route every sample offer to the same steps first.
+ * <p>
+ * Standalone, no framework needed beyond the main classpath:
+ * {@code java -cp <app classes>:<test classes> com.screening.interviews.service.DecisionTableBenchmark [ruleCounts...]}
+ */
+public class DecisionTableBenchmark {
+
+    private static final String[] CATEGORIES = {"ENGINEERING", "SALES", "EXECUTIVE", "INTERN", "SUPPORT", "FINANCE"};
+    private static final String[] ROLES = {"RECRUITER", "HR", "HIRING_MANAGER", "ADMIN"};
+    private static final String[] DEPARTMENTS = {"PLATFORM", "PAYMENTS", "MOBILE", "DATA", "SECURITY", "OPS",
+            "MARKETING", "LEGAL"};
+    private static final String[] EMPLOYMENT_TYPES = {"FULL_TIME", "PART_TIME", "CONTRACT"};
+
+    private static final int SAMPLES = 10_000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        int[] ruleCounts = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{100, 1_000, 5_000, 10_000};
+
+        System.out.printf("%8s %12s %14s %14s %10s%n", "rules", "compile ms", "table ns/op", "linear ns/op", "speedup");
+        for (int ruleCount : ruleCounts) {
+            Random random = new Random(ruleCount);
+            List<ApprovalRoutingRules.Rule> rules = generateRules(random, ruleCount);
+            List<ApprovalRoutingEngine.RoutingFacts> facts = generateFacts(random, SAMPLES);
+
+            long compileStart = System.nanoTime();
+            ApprovalRoutingEngine.DecisionTable table = ApprovalRoutingEngine.DecisionTable.compile(rules);
+            double compileMs = (System.nanoTime() - compileStart) / 1e6;
+
+            LinearScan linear = new LinearScan(rules);
+            for (ApprovalRoutingEngine.RoutingFacts sample : facts) {
+                if (!table.evaluate(sample).equals(linear.evaluate(sample))) {
+                    throw new AssertionError("Table and linear scan disagree for " + sample);
+                }
+            }
+
+            double tableNs = measure(facts, table::evaluate);
+            double linearNs = measure(facts, linear::evaluate);
+            System.out.printf("%8d %12.2f %14.0f %14.0f %9.1fx%n",
+                    ruleCount, compileMs, tableNs, linearNs, linearNs / tableNs);
+        }
+    }
+
+    private interface Router {
+        List<ApprovalWorkflowRequest.ApprovalStep> evaluate(ApprovalRoutingEngine.RoutingFacts facts);
+    }
+
+    // Best round of MEASURED_ROUNDS, after WARMUP_ROUNDS to let the JIT settle
+    private static double measure(List<ApprovalRoutingEngine.RoutingFacts> facts, Router router) {
+        long sink = 0;
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (ApprovalRoutingEngine.RoutingFacts sample : facts) {
+                sink += router.evaluate(sample).size();
+            }
+            double perOp = (double) (System.nanoTime() - start) / facts.size();
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, perOp);
+            }
+        }
+        if (sink == 42) {
+            System.out.print(""); // keeps the results observable
+        }
+        return best;
+    }
+
+    private static List<ApprovalRoutingRules.Rule> generateRules(Random random, int count) {
+        List<ApprovalRoutingRules.Rule> rules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ApprovalRoutingRules.Condition when = new ApprovalRoutingRules.Condition();
+            if (random.nextInt(4) != 0) {
+                long min = 20_000L + random.nextInt(300) * 1_000L;
+                when.setMinSalary(min);
+                when.setMaxSalary(min + 10_000L + random.nextInt(200) * 1_000L);
+            }
+            when.setTemplateCategories(pick(random, CATEGORIES, 3));
+            when.setCreatorRoles(pick(random, ROLES, 4));
+            when.setDepartments(pick(random, DEPARTMENTS, 6));
+            when.setEmploymentTypes(pick(random, EMPLOYMENT_TYPES, 5));
+
+            List<ApprovalWorkflowRequest.ApprovalStep> steps = new ArrayList<>();
+            int stepCount = 1 + random.nextInt(3);
+            for (int s = 0; s < stepCount; s++) {
+                steps.add(new ApprovalWorkflowRequest.ApprovalStep((long) (1 + random.nextInt(500)),
+                        ROLES[random.nextInt(ROLES.length)], s + 1, null));
+            }
+            rules.add(new ApprovalRoutingRules.Rule("rule-" + i, random.nextInt(count), when, steps,
+                    random.nextInt(50) == 0));
+        }
+        return rules;
+    }
+
+    // Unconstrained one time in `oneIn`, otherwise one or two values
+    private static List<String> pick(Random random, String[] values, int oneIn) {
+        if (random.nextInt(oneIn) == 0) {
+            return null;
+        }
+        List<String> picked = new ArrayList<>(2);
+        picked.add(values[random.nextInt(values.length)]);
+        if (random.nextBoolean()) {
+            picked.add(values[random.nextInt(values.length)].toLowerCase(Locale.ROOT));
+        }
+        return picked;
+    }
+
+    private static List<ApprovalRoutingEngine.RoutingFacts> generateFacts(Random random, int count) {
+        List<ApprovalRoutingEngine.RoutingFacts> facts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            facts.add(new ApprovalRoutingEngine.RoutingFacts(
+                    random.nextInt(10) == 0 ? null : 15_000L + random.nextInt(600) * 1_000L,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    ROLES[random.nextInt(ROLES.length)],
+                    random.nextInt(5) == 0 ? null : DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                    EMPLOYMENT_TYPES[random.nextInt(EMPLOYMENT_TYPES.length)]));
+        }
+        return facts;
+    }
+
+    /** The rules as written, checked one by one in priority order; the reference for the table. */
+    private static final class LinearScan {
+
+        private final List<ApprovalRoutingRules.Rule> rules;
+
+        LinearScan(List<ApprovalRoutingRules.Rule> input) {
+            rules = new ArrayList<>(input);
+            // Same stable sort as DecisionTable.compile, so equal priorities keep their order
+            rules.sort((a, b) -> Integer.compare(a.getPriority(), b.getPriority()));
+        }
+
+        List<ApprovalWorkflowRequest.ApprovalStep> evaluate(ApprovalRoutingEngine.RoutingFacts facts) {
+            List<ApprovalWorkflowRequest.ApprovalStep> steps = new ArrayList<>();
+            Set<Long> approvers = new HashSet<>();
+            for (ApprovalRoutingRules.Rule rule : rules) {
+                if (!matches(rule.getWhen(), facts)) {
+                    continue;
+                }
+                for (ApprovalWorkflowRequest.ApprovalStep step : rule.getSteps()) {
+                    if (approvers.add(step.getApproverId())) {
+                        steps.add(new ApprovalWorkflowRequest.ApprovalStep(step.getApproverId(),
+                                step.getApproverRole(), step.getOrder(), step.getQuorum()));
+                    }
+                }
+                if (rule.isStop()) {
+                    break;
+                }
+            }
+            return steps;
+        }
+
+        private static boolean matches(ApprovalRoutingRules.Condition when, ApprovalRoutingEngine.RoutingFacts facts) {
+            if (when == null) {
+                return true;
+            }
+            boolean salaryBound = when.getMinSalary() != null || when.getMaxSalary() != null;
+            if (salaryBound) {
+                Long salary = facts.salaryAmount();
+                if (salary == null
+                        || (when.getMinSalary() != null && salary < when.getMinSalary())
+                        || (when.getMaxSalary() != null && salary >= when.getMaxSalary())) {
+                    return false;
+                }
+            }
+            return accepts(when.getTemplateCategories(), facts.templateCategory())
+                    && accepts(when.getCreatorRoles(), facts.creatorRole())
+                    && accepts(when.getDepartments(), facts.department())
+                    && accepts(when.getEmploymentTypes(), facts.employmentType());
+        }
+
+        // A missing fact only satisfies an unconstrained attribute, as in Dimension.match
+        private static boolean accepts(List<String> values, String fact) {
+            if (values == null || values.isEmpty()) {
+                return true;
+            }
+            if (fact == null) {
+                return false;
+            }
+            String normalized = fact.trim().toUpperCase(Locale.ROOT);
+            return values.stream().anyMatch(v -> v.trim().toUpperCase(Locale.ROOT).equals(normalized));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.screening.interviews.service;
+
+import com.screening.interviews.BenchmarkContext;
+import com.screening.interviews.dto.ApprovalWorkflowRequest;
+import com.screening.interviews.dto.CreateOfferRequest;
+import com.screening.interviews.model.OfferLetter;
+import com.screening.interviews.repo.OfferLetterRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cost of ApprovalService.initializeCustomApprovalWorkflow through the real persistence config,
+ * once with JDBC batching off ({@code app.hibernate.jdbc.batch-size=1}, so every approval step
+ * is its own INSERT round trip as it was under IDENTITY ids) and once with the configured batch
+ * size. IDENTITY generation itself is gone from the mappings, so batching off is the closest
+ * "before" the current code can run. Each configuration boots its own application context;
+ * offers are created as drafts up front and every workflow is initialized in its own
+ * transaction, the way submitForApproval does it. Reports latency per workflow and the JDBC
+ * statements Hibernate prepared per workflow.
+ * <p>
+ * Creates offers in the target database, so point it at a disposable one:
+ * {@code java -cp <app classpath>:<test classes> com.screening.interviews.service.WorkflowInitializationBenchmark
+ * jdbc:postgresql://localhost:5432/bench user password [workflows] [stepsPerWorkflow] [batchSize]}
+ */
+public class WorkflowInitializationBenchmark {
+
+    private static final long CREATOR_ID = 800_000L;
+    private static final long FIRST_APPROVER_ID = 810_000L;
+    private static final int WARMUP = 100;
+
+    private record Result(long[] nanos, long statements, long inserts) {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("usage: WorkflowInitializationBenchmark <jdbcUrl> <user> <password> "
+                    + "[workflows] [steps] [batchSize]");
+            System.exit(2);
+        }
+        int workflows = args.length > 3 ? Integer.parseInt(args[3]) : 2_000;
+        int steps = args.length > 4 ? Integer.parseInt(args[4]) : 5;
+        int batchSize = args.length > 5 ? Integer.parseInt(args[5]) : 50;
+
+        Result unbatched = run(args, 1, workflows, steps);
+        Result batched = run(args, batchSize, workflows, steps);
+
+        System.out.printf("%d workflows x %d steps%n", workflows, steps);
+        print("batch size 1", unbatched, workflows);
+        print("batch size " + batchSize, batched, workflows);
+        System.out.printf("  speedup (mean) %.1fx%n", (double) sum(unbatched.nanos()) / sum(batched.nanos()));
+    }
+
+    private static Result run(String[] args, int batchSize, int workflows, int steps) {
+        try (ConfigurableApplicationContext context = BenchmarkContext.start(args[0], args[1], args[2],
+                "app.hibernate.jdbc.batch-size=" + batchSize)) {
+            OfferLetterService offerLetterService = context.getBean(OfferLetterService.class);
+            ApprovalService approvalService = context.getBean(ApprovalService.class);
+            OfferLetterRepository offerLetterRepository = context.getBean(OfferLetterRepository.class);
+            TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+
+            List<ApprovalWorkflowRequest.ApprovalStep> chain = new ArrayList<>(steps);
+            for (int s = 1; s <= steps; s++) {
+                chain.add(new ApprovalWorkflowRequest.ApprovalStep(FIRST_APPROVER_ID + s, "HIRING_MANAGER", s, null));
+            }
+            List<Long> offerIds = new ArrayList<>(WARMUP + workflows);
+            for (int i = 0; i < WARMUP + workflows; i++) {
+                offerIds.add(offerLetterService.createOffer(new CreateOfferRequest((long) i,
+                        "{\"candidateName\": \"Bench " + i + "\"}"), CREATOR_ID).getId());
+            }
+
+            long[] nanos = new long[workflows];
+            for (int i = 0; i < offerIds.size(); i++) {
+                if (i == WARMUP) {
+                    statistics.clear();
+                }
+                Long offerId = offerIds.get(i);
+                long start = System.nanoTime();
+                tx.executeWithoutResult(status -> {
+                    OfferLetter offer = offerLetterRepository.findById(offerId).orElseThrow();
+                    offer.setStatus(OfferLetter.OfferStatus.PENDING_APPROVAL);
+                    approvalService.initializeCustomApprovalWorkflow(offer, chain);
+                });
+                if (i >= WARMUP) {
+                    nanos[i - WARMUP] = System.nanoTime() - start;
+                }
+            }
+            return new Result(nanos, statistics.getPrepareStatementCount(), statistics.getEntityInsertCount());
+        }
+    }
+
+    private static void print(String label, Result result, int workflows) {
+        long[] sorted = result.nanos().clone();
+        Arrays.sort(sorted);
+        System.out.printf("  %-14s mean %7.3f ms, p50 %7.3f ms, p95 %7.3f ms, %5.1f statements and %4.1f inserts"
+                        + " per workflow%n", label, sum(sorted) / 1e6 / workflows, sorted[workflows / 2] / 1e6,
+                sorted[workflows * 95 / 100] / 1e6, (double) result.statements() / workflows,
+                (double) result.inserts() / workflows);
+    }
+
+    private static long sum(long[] values) {
+        return Arrays.stream(values).sum();
+    }
+}